@@ -0,0 +1,33 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.Runner;
+
+/**
+ * Entry point of the benchmark jar. Accepts the usual JMH command line
+ * (benchmark regexps, -p size=..., -f, -wi, ...) and always attaches the
+ * gc profiler so every run reports allocation rate next to throughput.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Runs the benchmarks selected on the command line.
+     *
+     * @param args JMH command line arguments
+     * @throws CommandLineOptionException if the arguments cannot be parsed
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args)
+            throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
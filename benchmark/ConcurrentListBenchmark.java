@@ -0,0 +1,195 @@
+package benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mylistpackage.ArrayListUnsorted;
+import mylistpackage.ConcurrentAppendList;
+import mylistpackage.ConcurrentLinkedListSorted;
+import mylistpackage.CopyOnWriteListSorted;
+import mylistpackage.LinkedListSorted;
+import mylistpackage.MyList;
+
+/**
+ * Multi-threaded throughput of the concurrent lists against the same
+ * workload on a plain list behind one global lock.
+ *
+ * The unsorted lists are append workloads: insert appends and read gets
+ * a random index; once an append list reaches APPEND_LIMIT values it is
+ * replaced by a new one, so memory stays bounded however many threads
+ * append. The sorted lists hold the even integers below
+ * 2 * size; insert adds an odd value and removes it again, and read looks
+ * up a value that is present about half of the time. All threads share one
+ * list.
+ *
+ * Run once per thread count to see the scaling, for example:
+ * for t in 1 2 4 8 16 32 64; do java -jar target/benchmarks.jar ConcurrentListBenchmark -t $t; done
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmark {
+
+    /** number of precomputed values; a power of two so it can be masked. */
+    private static final int VALUES = 1 << 16;
+
+    /** number of values an append list may reach before it is replaced. */
+    private static final int APPEND_LIMIT = 1 << 22;
+
+    /** implementation under test. */
+    @Param({"SynchronizedArrayListUnsorted", "ConcurrentAppendList",
+            "SynchronizedLinkedListSorted", "ConcurrentLinkedListSorted", "CopyOnWriteListSorted"})
+    public String impl;
+
+    /** number of elements in the list when an iteration starts. */
+    @Param({"1000"})
+    public int size;
+
+    /** the shared list; volatile because insert may replace it. */
+    private volatile MyList<Integer> list;
+
+    /** whether every operation holds the list's monitor. */
+    private boolean locked;
+
+    /** whether the list is sorted. */
+    private boolean sorted;
+
+    /** boxed values, so the benchmark does not measure boxing. */
+    private Integer[] values;
+
+    /**
+     * Builds the value array.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        values = new Integer[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = i;
+        }
+    }
+
+    /**
+     * Builds a fresh list for every iteration, so the append lists do not
+     * grow for the whole run.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        locked = impl.startsWith("Synchronized");
+        sorted = impl.endsWith("Sorted");
+        list = create();
+    }
+
+    /**
+     * Creates a list of the implementation under test holding size values.
+     *
+     * @return the filled list
+     */
+    private MyList<Integer> create() {
+        MyList<Integer> result;
+        switch (impl) {
+            case "SynchronizedArrayListUnsorted":
+                result = new ArrayListUnsorted<Integer>();
+                break;
+            case "ConcurrentAppendList":
+                result = new ConcurrentAppendList<Integer>();
+                break;
+            case "SynchronizedLinkedListSorted":
+                result = new LinkedListSorted<Integer>();
+                break;
+            case "ConcurrentLinkedListSorted":
+                result = new ConcurrentLinkedListSorted<Integer>();
+                break;
+            case "CopyOnWriteListSorted":
+                result = new CopyOnWriteListSorted<Integer>();
+                break;
+            default:
+                throw new IllegalArgumentException("impl: " + impl);
+        }
+        for (int i = 0; i < size; i++) {
+            result.insert(sorted ? values[2 * i] : values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Appends a value, or inserts an absent value into a sorted list and
+     * removes it again.
+     *
+     * @return the list size, to keep the work observable
+     */
+    @Benchmark
+    public int insert() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        MyList<Integer> list = this.list;
+        if (sorted) {
+            Integer value = values[2 * random.nextInt(size) + 1];
+            if (locked) {
+                synchronized (list) {
+                    list.insert(value);
+                    list.remove(value);
+                }
+            } else {
+                list.insert(value);
+                list.remove(value);
+            }
+        } else {
+            Integer value = values[random.nextInt(VALUES)];
+            if (locked) {
+                synchronized (list) {
+                    list.insert(value);
+                }
+            } else {
+                list.insert(value);
+            }
+            if (list.getSize() >= APPEND_LIMIT) {
+                // racing threads may each replace it; that only costs a list
+                this.list = create();
+            }
+        }
+        return list.getSize();
+    }
+
+    /**
+     * Reads a random index of an append list, or looks up a value in a
+     * sorted list.
+     *
+     * @return the value read, or whether the value was found
+     */
+    @Benchmark
+    public Object read() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        MyList<Integer> list = this.list;
+        if (sorted) {
+            Integer value = values[random.nextInt(2 * size)];
+            if (locked) {
+                synchronized (list) {
+                    return list.contains(value);
+                }
+            }
+            return list.contains(value);
+        }
+        int index = random.nextInt(size);
+        if (locked) {
+            synchronized (list) {
+                return list.get(index);
+            }
+        }
+        return list.get(index);
+    }
+}
@@ -0,0 +1,159 @@
+package benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Writes deterministic synthetic text whose word frequencies follow a
+ * Zipf distribution, for feeding the correlator at any scale.
+ *
+ * Corpora with the same vocabulary size share the same words; the seed
+ * decides which words are common, so two seeds behave like two writers.
+ * Some words carry punctuation or a capital letter, which getWord strips.
+ *
+ * Usage: java -cp target/benchmarks.jar benchmark.CorpusGenerator
+ *            file size [vocabulary] [exponent] [seed]
+ * where size accepts a K, M or G suffix, e.g. 512M or 4G.
+ */
+public class CorpusGenerator {
+
+    /** default number of distinct words. */
+    public static final int DEFAULT_VOCABULARY = 50000;
+
+    /** default skew of the word frequencies; natural language is close to 1. */
+    public static final double DEFAULT_EXPONENT = 1.0;
+
+    /** seed of the vocabulary itself, shared by all corpora. */
+    private static final long VOCABULARY_SEED = 342;
+
+    /** approximate number of characters per line. */
+    private static final int LINE_LENGTH = 72;
+
+    /** punctuation occasionally attached to a word. */
+    private static final String PUNCTUATION = ",.;:!?";
+
+    /**
+     * Writes a corpus file.
+     *
+     * @param args file size [vocabulary] [exponent] [seed]
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: CorpusGenerator file size [vocabulary] [exponent] [seed]");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        long bytes = parseSize(args[1]);
+        int vocabulary = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_VOCABULARY;
+        double exponent = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_EXPONENT;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 1;
+        generate(file, bytes, vocabulary, exponent, seed);
+    }
+
+    /**
+     * Parses a byte count with an optional K, M or G suffix.
+     *
+     * @param size the byte count, e.g. 64M
+     * @return the number of bytes
+     * @throws IllegalArgumentException if size is not a byte count
+     */
+    public static long parseSize(String size) {
+        String digits = size.trim().toUpperCase();
+        long unit = 1;
+        char suffix = digits.isEmpty() ? ' ' : digits.charAt(digits.length() - 1);
+        if (suffix == 'K' || suffix == 'M' || suffix == 'G') {
+            unit = suffix == 'K' ? 1L << 10 : suffix == 'M' ? 1L << 20 : 1L << 30;
+            digits = digits.substring(0, digits.length() - 1);
+        }
+        try {
+            return Long.parseLong(digits) * unit;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("size: " + size);
+        }
+    }
+
+    /**
+     * Writes a corpus of at least the given number of bytes.
+     *
+     * @param file the file to write
+     * @param bytes the size of the corpus
+     * @param vocabulary the number of distinct words > 0
+     * @param exponent the skew of the word frequencies
+     * @param seed decides the order and frequency of words
+     * @throws IOException if the file cannot be written
+     */
+    public static void generate(Path file, long bytes, int vocabulary, double exponent,
+                                long seed) throws IOException {
+        String[] words = vocabulary(vocabulary);
+        Random random = new Random(seed);
+        int[] scatter = Zipf.permutation(vocabulary, random);
+        Zipf zipf = new Zipf(vocabulary, exponent);
+
+        try (Writer out = new BufferedWriter(
+                Files.newBufferedWriter(file, StandardCharsets.US_ASCII), 1 << 16)) {
+            long written = 0;
+            int column = 0;
+            while (written < bytes) {
+                String word = words[scatter[zipf.next(random)]];
+                int chance = random.nextInt(100);
+                if (chance < 3) {
+                    out.write(Character.toUpperCase(word.charAt(0)));
+                    out.write(word, 1, word.length() - 1);
+                } else {
+                    out.write(word);
+                }
+                column += word.length();
+                if (chance >= 95) {
+                    out.write(PUNCTUATION.charAt(chance - 95));
+                    column++;
+                }
+                if (column >= LINE_LENGTH) {
+                    out.write('\n');
+                    written += column + 1;
+                    column = 0;
+                } else {
+                    out.write(' ');
+                    column++;
+                }
+            }
+            if (column > 0) {
+                out.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Returns the given number of distinct lower case words, 3 to 12
+     * letters long. The result only depends on size.
+     *
+     * @param size the number of words
+     * @return the words
+     */
+    static String[] vocabulary(int size) {
+        Random random = new Random(VOCABULARY_SEED);
+        Set<String> seen = new HashSet<>();
+        String[] words = new String[size];
+        int count = 0;
+        while (count < size) {
+            char[] letters = new char[3 + random.nextInt(10)];
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] = (char) ('a' + random.nextInt(26));
+            }
+            String word = new String(letters);
+            if (seen.add(word)) {
+                words[count] = word;
+                count++;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,274 @@
+package benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Scanner;
+
+import correlator.CorrelatorApp;
+import correlator.HashMap;
+import correlator.Heap;
+import correlator.HeapEntry;
+
+/**
+ * Times each phase of the correlator separately on two synthetic corpora:
+ *
+ * tokenize  - reading the first corpus through CorrelatorApp.getWord.
+ * count     - counting the tokens of the first corpus into a HashMap.
+ * heap      - building the Heap of word frequencies of the first corpus.
+ * correlate - normalizing both maps and taking their intersection and union.
+ *
+ * Every phase is normalized to the words and bytes of the first corpus, so
+ * the rows can be compared directly. The count phase keeps the corpus in
+ * memory as vocabulary ids, 4 bytes per corpus word in blocks of
+ * BLOCK_WORDS, so the corpus is not limited to an int number of words.
+ *
+ * Each phase is a whole pass, seconds long at scale, so this is a plain
+ * harness rather than a JMH benchmark: warm-up passes are run and dropped,
+ * then the mean of the measured passes is reported.
+ *
+ * Usage: java -cp target/benchmarks.jar benchmark.CorrelatorBenchmark
+ *            [size] [vocabulary] [exponent] [warmups] [runs] [directory]
+ * where size accepts a K, M or G suffix. Corpora are generated on first use
+ * and kept in directory, by default java.io.tmpdir.
+ */
+public class CorrelatorBenchmark {
+
+    /** names of the phases, in order. */
+    private static final String[] PHASES = {"tokenize", "count", "heap", "correlate"};
+
+    /** number of ids in each block of the corpus. */
+    private static final int BLOCK_WORDS = 1 << 20;
+
+    /** allocation counter of the current thread. */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** the first corpus. */
+    private final Path first;
+
+    /** the second corpus, written by a different seed. */
+    private final Path second;
+
+    /** distinct words of the first corpus, indexed by id. */
+    private String[] vocabulary;
+
+    /** ids of the words of the first corpus, in blocks of BLOCK_WORDS. */
+    private int[][] blocks;
+
+    /** number of words in the first corpus. */
+    private long words;
+
+    /** word counts of the first corpus. */
+    private HashMap<String, Integer> firstMap;
+
+    /** word counts of the second corpus. */
+    private HashMap<String, Integer> secondMap;
+
+    /** keeps results reachable so no phase can be optimized away. */
+    private long sink;
+
+    /**
+     * Constructs a benchmark over two corpora.
+     *
+     * @param first the first corpus
+     * @param second the second corpus
+     */
+    public CorrelatorBenchmark(Path first, Path second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Generates the corpora if needed and runs every phase.
+     *
+     * @param args [size] [vocabulary] [exponent] [warmups] [runs] [directory]
+     * @throws IOException if a corpus cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        long bytes = CorpusGenerator.parseSize(args.length > 0 ? args[0] : "16M");
+        int vocabulary = args.length > 1 ? Integer.parseInt(args[1])
+                                         : CorpusGenerator.DEFAULT_VOCABULARY;
+        double exponent = args.length > 2 ? Double.parseDouble(args[2])
+                                          : CorpusGenerator.DEFAULT_EXPONENT;
+        int warmups = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+        int runs = args.length > 4 ? Integer.parseInt(args[4]) : 5;
+        Path directory = Paths.get(args.length > 5 ? args[5]
+                                                   : System.getProperty("java.io.tmpdir"));
+
+        Path first = corpus(directory, bytes, vocabulary, exponent, 1);
+        Path second = corpus(directory, bytes, vocabulary, exponent, 2);
+        new CorrelatorBenchmark(first, second).run(warmups, runs);
+    }
+
+    /**
+     * Returns the corpus with the given settings, generating it if needed.
+     *
+     * @param directory where corpora are kept
+     * @param bytes the size of the corpus
+     * @param vocabulary the number of distinct words
+     * @param exponent the skew of the word frequencies
+     * @param seed the seed of the corpus
+     * @return the corpus file
+     * @throws IOException if the corpus cannot be written
+     */
+    static Path corpus(Path directory, long bytes, int vocabulary, double exponent, long seed)
+            throws IOException {
+        Path file = directory.resolve("corpus-" + bytes + "-" + vocabulary + "-"
+                                      + exponent + "-" + seed + ".txt");
+        if (!Files.exists(file)) {
+            System.out.println("Generating " + file);
+            CorpusGenerator.generate(file, bytes, vocabulary, exponent, seed);
+        }
+        return file;
+    }
+
+    /**
+     * Runs every phase warmups + runs times and prints the mean of the
+     * measured passes.
+     *
+     * @param warmups number of passes to drop
+     * @param runs number of passes to measure > 0
+     * @throws IOException if a corpus cannot be read
+     */
+    public void run(int warmups, int runs) throws IOException {
+        prepare();
+        long bytes = Files.size(first);
+        System.out.printf("%,d words, %,d bytes, %,d distinct words%n",
+                          words, bytes, firstMap.size());
+        System.out.printf("%-10s %12s %14s %14s %14s%n",
+                          "phase", "ms", "words/s", "MB/s", "alloc B/word");
+
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            long nanos = 0;
+            long allocated = 0;
+            for (int pass = 0; pass < warmups + runs; pass++) {
+                long startAllocated = THREADS.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                sink += runPhase(phase);
+                long end = System.nanoTime();
+                long endAllocated = THREADS.getCurrentThreadAllocatedBytes();
+                if (pass >= warmups) {
+                    nanos += end - start;
+                    allocated += endAllocated - startAllocated;
+                }
+            }
+            double seconds = nanos / 1e9 / runs;
+            System.out.printf("%-10s %12.1f %,14.0f %14.1f %14.1f%n",
+                              PHASES[phase], seconds * 1e3, words / seconds,
+                              bytes / seconds / (1 << 20), (double) allocated / runs / words);
+        }
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    /**
+     * Tokenizes the first corpus and counts both corpora, outside of any
+     * measurement, so each phase has its input ready.
+     *
+     * @throws IOException if a corpus cannot be read
+     */
+    private void prepare() throws IOException {
+        HashMap<String, Integer> ids = new HashMap<>();
+        vocabulary = new String[16];
+        blocks = new int[16][];
+        words = 0;
+        try (Scanner file = new Scanner(Files.newInputStream(first))) {
+            String word;
+            while ((word = CorrelatorApp.getWord(file)) != null) {
+                Integer id = ids.get(word);
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(word, id);
+                    if (id == vocabulary.length) {
+                        vocabulary = Arrays.copyOf(vocabulary, 2 * id);
+                    }
+                    vocabulary[id] = word;
+                }
+                int block = (int) (words / BLOCK_WORDS);
+                if (block == blocks.length) {
+                    blocks = Arrays.copyOf(blocks, 2 * block);
+                }
+                if (blocks[block] == null) {
+                    blocks[block] = new int[BLOCK_WORDS];
+                }
+                blocks[block][(int) (words % BLOCK_WORDS)] = id;
+                words++;
+            }
+        }
+        firstMap = count();
+        secondMap = new HashMap<>();
+        try (Scanner file = new Scanner(Files.newInputStream(second))) {
+            CorrelatorApp.countWords(file, secondMap);
+        }
+    }
+
+    /**
+     * Runs one pass of a phase.
+     *
+     * @param phase index into PHASES
+     * @return a value derived from the result
+     * @throws IOException if a corpus cannot be read
+     */
+    private long runPhase(int phase) throws IOException {
+        switch (phase) {
+            case 0:
+                return tokenize();
+            case 1:
+                return count().size();
+            case 2: {
+                Heap<HeapEntry<String, Integer>> heap = CorrelatorApp.buildHeap(firstMap);
+                return heap.size();
+            }
+            default: {
+                HashMap<String, Integer> firstNorm =
+                        CorrelatorApp.normalize(firstMap, firstMap.size());
+                HashMap<String, Integer> secondNorm =
+                        CorrelatorApp.normalize(secondMap, firstMap.size());
+                return firstNorm.intersection(secondNorm) + firstNorm.union(secondNorm);
+            }
+        }
+    }
+
+    /**
+     * Reads every word of the first corpus.
+     *
+     * @return the total length of the words
+     * @throws IOException if the corpus cannot be read
+     */
+    private long tokenize() throws IOException {
+        try (Scanner file = new Scanner(
+                new BufferedInputStream(Files.newInputStream(first), 1 << 16))) {
+            long length = 0;
+            String word;
+            while ((word = CorrelatorApp.getWord(file)) != null) {
+                length += word.length();
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Counts the words of the first corpus.
+     *
+     * @return the word counts
+     */
+    private HashMap<String, Integer> count() {
+        HashMap<String, Integer> map = new HashMap<>();
+        long remaining = words;
+        for (int block = 0; remaining > 0; block++) {
+            int[] ids = blocks[block];
+            int length = (int) Math.min(remaining, BLOCK_WORDS);
+            for (int i = 0; i < length; i++) {
+                CorrelatorApp.count(map, vocabulary[ids[i]]);
+            }
+            remaining -= length;
+        }
+        return map;
+    }
+}
@@ -0,0 +1,126 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mylistpackage.ArrayListSorted;
+import mylistpackage.FrozenSortedList;
+
+/**
+ * Lookup throughput of ArrayListSorted against its frozen Eytzinger copy.
+ *
+ * Both lists hold the even integers 0, 2, ..., 2 * (size - 1), so probes
+ * drawn from [0, 2 * size) hit about half of the time.
+ *
+ * Run with: java -jar target/benchmarks.jar FrozenListBenchmark -p size=10000000
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FrozenListBenchmark {
+
+    /** number of precomputed probes; a power of two so it can be masked. */
+    private static final int PROBES = 1 << 16;
+
+    /** number of elements in the list. */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /** the list searched by binary search. */
+    private ArrayListSorted<Integer> sorted;
+
+    /** the same values in Eytzinger order. */
+    private FrozenSortedList<Integer> frozen;
+
+    /** values to look up, roughly half of them present. */
+    private Integer[] probes;
+
+    /** position within the probe array. */
+    private int cursor;
+
+    /**
+     * Builds both lists and the probe array.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 2 * i;
+        }
+        sorted = new ArrayListSorted<Integer>(size);
+        sorted.insertAll(values);
+        frozen = sorted.freeze();
+
+        Random random = new Random(42);
+        probes = new Integer[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = random.nextInt(2 * size);
+        }
+    }
+
+    /**
+     * Returns the next probe.
+     *
+     * @return a value to look up
+     */
+    private Integer next() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        return probes[cursor];
+    }
+
+    /**
+     * Finds an index by binary search.
+     *
+     * @return the index, or -1
+     */
+    @Benchmark
+    public int sortedGetIndex() {
+        return sorted.getIndex(next());
+    }
+
+    /**
+     * Finds an index by Eytzinger descent.
+     *
+     * @return the index, or -1
+     */
+    @Benchmark
+    public int frozenGetIndex() {
+        return frozen.getIndex(next());
+    }
+
+    /**
+     * Counts the smaller values by binary search.
+     *
+     * @return the rank
+     */
+    @Benchmark
+    public int sortedRank() {
+        return sorted.lowerBound(next());
+    }
+
+    /**
+     * Counts the smaller values by Eytzinger descent.
+     *
+     * @return the rank
+     */
+    @Benchmark
+    public int frozenRank() {
+        return frozen.rank(next());
+    }
+}
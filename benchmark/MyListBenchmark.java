@@ -0,0 +1,228 @@
+package benchmark;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mylistpackage.ArenaListSorted;
+import mylistpackage.ArenaListUnsorted;
+import mylistpackage.ArrayListSorted;
+import mylistpackage.ArrayListUnsorted;
+import mylistpackage.LinkedListSorted;
+import mylistpackage.LinkedListUnsorted;
+import mylistpackage.MyList;
+import mylistpackage.SkipListSorted;
+import mylistpackage.UnrolledListSorted;
+import mylistpackage.UnrolledListUnsorted;
+
+/**
+ * Throughput benchmarks for every MyList implementation.
+ *
+ * The list holds the even integers 0, 2, ..., 2 * (size - 1), so value
+ * probes drawn from [0, 2 * size) hit about half of the time. Mutating
+ * benchmarks undo their change within the same invocation so the list
+ * stays at the requested size for the whole run.
+ *
+ * Run with: java -jar target/benchmarks.jar MyListBenchmark -p size=1000000
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyListBenchmark {
+
+    /** number of precomputed probes; a power of two so it can be masked. */
+    private static final int PROBES = 1 << 16;
+
+    /** implementation under test. */
+    @Param({"ArrayListSorted", "ArrayListUnsorted", "ArrayListUnsortedIndexed", "LinkedListSorted",
+            "LinkedListUnsorted", "SkipListSorted", "UnrolledListSorted", "UnrolledListUnsorted",
+            "ArenaListSorted", "ArenaListUnsorted"})
+    public String impl;
+
+    /** number of elements in the list. */
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    /** the list under test. */
+    private MyList<Integer> list;
+
+    /** whether insert places values in order. */
+    private boolean sorted;
+
+    /** values to look up, roughly half of them present. */
+    private Integer[] valueProbes;
+
+    /** odd values, never present, used for inserts. */
+    private Integer[] insertProbes;
+
+    /** valid indexes into the list. */
+    private int[] indexProbes;
+
+    /** position within the probe arrays. */
+    private int cursor;
+
+    /**
+     * Builds the list and the probe arrays.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = create(impl, size);
+        sorted = list instanceof ArrayListSorted || list instanceof LinkedListSorted
+                 || list instanceof SkipListSorted || list instanceof UnrolledListSorted
+                 || list instanceof ArenaListSorted;
+        for (int i = 0; i < size; i++) {
+            list.insert(2 * i);
+        }
+
+        Random random = new Random(42);
+        valueProbes = new Integer[PROBES];
+        insertProbes = new Integer[PROBES];
+        indexProbes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            valueProbes[i] = random.nextInt(2 * size);
+            insertProbes[i] = 2 * random.nextInt(size) + 1;
+            indexProbes[i] = random.nextInt(size);
+        }
+    }
+
+    /**
+     * Creates an empty list of the named implementation. Array lists are
+     * pre-sized so that building the fixture does not dominate setup time.
+     *
+     * @param name simple class name of the implementation
+     * @param capacity expected number of elements
+     * @return an empty list
+     */
+    static MyList<Integer> create(String name, int capacity) {
+        switch (name) {
+            case "ArrayListSorted":
+                return new ArrayListSorted<Integer>(capacity);
+            case "ArrayListUnsorted":
+                return new ArrayListUnsorted<Integer>(capacity);
+            case "ArrayListUnsortedIndexed": {
+                ArrayListUnsorted<Integer> list = new ArrayListUnsorted<Integer>(capacity);
+                list.setIndexed(true);
+                return list;
+            }
+            case "LinkedListSorted":
+                return new LinkedListSorted<Integer>();
+            case "LinkedListUnsorted":
+                return new LinkedListUnsorted<Integer>();
+            case "SkipListSorted":
+                return new SkipListSorted<Integer>();
+            case "UnrolledListSorted":
+                return new UnrolledListSorted<Integer>();
+            case "UnrolledListUnsorted":
+                return new UnrolledListUnsorted<Integer>();
+            case "ArenaListSorted":
+                return new ArenaListSorted<Integer>(capacity);
+            case "ArenaListUnsorted":
+                return new ArenaListUnsorted<Integer>(capacity);
+            default:
+                throw new IllegalArgumentException("impl: " + name);
+        }
+    }
+
+    /**
+     * Returns the next probe slot.
+     *
+     * @return index into the probe arrays
+     */
+    private int next() {
+        cursor = (cursor + 1) & (PROBES - 1);
+        return cursor;
+    }
+
+    /**
+     * Inserts a value that is not yet present, then removes it again. Sorted
+     * lists remove it by value, unsorted lists drop the last slot, which is
+     * where insert put it.
+     *
+     * @return the list size, to keep the work observable
+     */
+    @Benchmark
+    public int insert() {
+        Integer value = insertProbes[next()];
+        list.insert(value);
+        if (sorted) {
+            list.remove(value);
+        } else {
+            list.removeAtIndex(list.getSize() - 1);
+        }
+        return list.getSize();
+    }
+
+    /**
+     * Looks up a value that is present about half of the time.
+     *
+     * @return whether the value was found
+     */
+    @Benchmark
+    public boolean contains() {
+        return list.contains(valueProbes[next()]);
+    }
+
+    /**
+     * Finds the index of a value that is present about half of the time.
+     *
+     * @return the index, or -1
+     */
+    @Benchmark
+    public int getIndex() {
+        return list.getIndex(valueProbes[next()]);
+    }
+
+    /**
+     * Reads the value at a random index.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public Integer get() {
+        return list.get(indexProbes[next()]);
+    }
+
+    /**
+     * Removes the value at a random index and inserts it back.
+     *
+     * @return the removed value
+     */
+    @Benchmark
+    public Integer removeAtIndex() {
+        int index = indexProbes[next()];
+        Integer value = list.get(index);
+        list.removeAtIndex(index);
+        list.insert(value);
+        return value;
+    }
+
+    /**
+     * Visits every element through the list iterator.
+     *
+     * @param blackhole sink for the visited values
+     */
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import correlator.HashMap;
+import treemap.AvlTree;
+import treemap.BinarySearchTree;
+import treemap.MyTreeMap;
+import treemap.SplayTree;
+
+/**
+ * Throughput benchmarks for every MyTreeMap implementation under a mix of
+ * gets and writes drawn from a configurable key distribution.
+ *
+ * Each operation picks a key from the distribution. With probability
+ * readPercent / 100 it is a get; otherwise it is a write, which removes
+ * the key if it is mapped and puts it if it is not. The map therefore
+ * stays about half full and both put and remove are exercised. The key
+ * stream is precomputed so sampling does not count against the maps.
+ *
+ * Distributions:
+ * uniform    - every key equally likely.
+ * zipfian    - key of rank r drawn with probability proportional to
+ *              1 / r^zipfExponent; ranks are scattered over the key order.
+ * sequential - keys in ascending order, wrapping around. The map is also
+ *              pre-filled in ascending order, which is the worst case for
+ *              BinarySearchTree.
+ * hotset     - 90% of operations go to a random 10% of the keys.
+ *
+ * Run with: java -jar target/benchmarks.jar MyTreeMapBenchmark -p distribution=sequential
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// BinarySearchTree recurses once per level, and sequential keys make it
+// as deep as it is large.
+@Fork(value = 1, jvmArgsAppend = "-Xss256m")
+@State(Scope.Benchmark)
+public class MyTreeMapBenchmark {
+
+    /** length of the precomputed operation stream; a power of two. */
+    private static final int OPERATIONS = 1 << 20;
+
+    /** shared prefix of the long string keys. */
+    private static final String LONG_PREFIX =
+            "com.example.service.configuration.property.namespace.segment.";
+
+    /** implementation under test. */
+    @Param({"BinarySearchTree", "AvlTree", "SplayTree", "HashMap"})
+    public String impl;
+
+    /** number of distinct keys. */
+    @Param({"1000", "10000", "100000"})
+    public int keySpace;
+
+    /** key distribution: uniform, zipfian, sequential or hotset. */
+    @Param({"uniform", "zipfian", "sequential", "hotset"})
+    public String distribution;
+
+    /** percentage of operations that are gets. */
+    @Param({"50", "90", "99"})
+    public int readPercent;
+
+    /** key type: Integer, ShortString or LongString. */
+    @Param({"Integer", "ShortString", "LongString"})
+    public String keyType;
+
+    /** skew of the zipfian distribution. */
+    @Param({"0.99"})
+    public double zipfExponent;
+
+    /** the map under test. */
+    private MyTreeMap<Object, Integer> map;
+
+    /** all keys, in ascending compareTo order. */
+    private Object[] keys;
+
+    /** whether each key is currently mapped. */
+    private boolean[] present;
+
+    /** key index of each operation. */
+    private int[] opKeys;
+
+    /** whether each operation is a get. */
+    private boolean[] opReads;
+
+    /** position within the operation stream. */
+    private int cursor;
+
+    /**
+     * Builds the keys, the operation stream and a half-full map.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        keys = createKeys(keyType, keySpace);
+        present = new boolean[keySpace];
+        opKeys = createStream(distribution, keySpace, zipfExponent, random);
+        opReads = new boolean[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            opReads[i] = random.nextInt(100) < readPercent;
+        }
+
+        map = create(impl);
+        if (distribution.equals("sequential")) {
+            for (int i = 0; i < keySpace; i += 2) {
+                map.put(keys[i], i);
+                present[i] = true;
+            }
+        } else {
+            int[] order = Zipf.permutation(keySpace, random);
+            for (int i = 0; i < keySpace / 2; i++) {
+                map.put(keys[order[i]], order[i]);
+                present[order[i]] = true;
+            }
+        }
+    }
+
+    /**
+     * Creates an empty map of the named implementation.
+     *
+     * @param name simple class name of the implementation
+     * @return an empty map
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static MyTreeMap<Object, Integer> create(String name) {
+        switch (name) {
+            case "BinarySearchTree":
+                return new BinarySearchTree();
+            case "AvlTree":
+                return new AvlTree();
+            case "SplayTree":
+                return new SplayTree();
+            case "HashMap":
+                return new HashMap<Object, Integer>();
+            default:
+                throw new IllegalArgumentException("impl: " + name);
+        }
+    }
+
+    /**
+     * Creates keySpace distinct keys of the given type whose natural order
+     * matches their index.
+     *
+     * @param type Integer, ShortString or LongString
+     * @param keySpace number of keys
+     * @return the keys in ascending order
+     */
+    static Object[] createKeys(String type, int keySpace) {
+        Object[] keys = new Object[keySpace];
+        for (int i = 0; i < keySpace; i++) {
+            switch (type) {
+                case "Integer":
+                    keys[i] = i;
+                    break;
+                case "ShortString":
+                    keys[i] = base26(i, 6);
+                    break;
+                case "LongString":
+                    keys[i] = LONG_PREFIX + base26(i, 6);
+                    break;
+                default:
+                    throw new IllegalArgumentException("keyType: " + type);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Creates the key index of every operation.
+     *
+     * @param distribution uniform, zipfian, sequential or hotset
+     * @param keySpace number of keys
+     * @param exponent skew of the zipfian distribution
+     * @param random source of randomness
+     * @return OPERATIONS key indexes
+     */
+    static int[] createStream(String distribution, int keySpace, double exponent,
+                              Random random) {
+        int[] stream = new int[OPERATIONS];
+        switch (distribution) {
+            case "uniform":
+                for (int i = 0; i < OPERATIONS; i++) {
+                    stream[i] = random.nextInt(keySpace);
+                }
+                break;
+            case "sequential":
+                for (int i = 0; i < OPERATIONS; i++) {
+                    stream[i] = i % keySpace;
+                }
+                break;
+            case "zipfian": {
+                Zipf zipf = new Zipf(keySpace, exponent);
+                int[] scatter = Zipf.permutation(keySpace, random);
+                for (int i = 0; i < OPERATIONS; i++) {
+                    stream[i] = scatter[zipf.next(random)];
+                }
+                break;
+            }
+            case "hotset": {
+                int[] order = Zipf.permutation(keySpace, random);
+                int hot = Math.max(1, keySpace / 10);
+                for (int i = 0; i < OPERATIONS; i++) {
+                    if (random.nextInt(10) < 9) {
+                        stream[i] = order[random.nextInt(hot)];
+                    } else {
+                        stream[i] = order[hot + random.nextInt(keySpace - hot)];
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("distribution: " + distribution);
+        }
+        return stream;
+    }
+
+    /**
+     * Encodes value as a fixed-width lower case string, so that string
+     * order matches numeric order.
+     *
+     * @param value >= 0
+     * @param width number of letters
+     * @return the encoded value
+     */
+    static String base26(int value, int width) {
+        char[] letters = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            letters[i] = (char) ('a' + value % 26);
+            value /= 26;
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Performs the next operation of the stream.
+     *
+     * @return the value read, or null for writes and misses
+     */
+    @Benchmark
+    public Integer operation() {
+        int op = cursor;
+        cursor = (cursor + 1) & (OPERATIONS - 1);
+        int index = opKeys[op];
+        if (opReads[op]) {
+            return map.get(keys[index]);
+        }
+        if (present[index]) {
+            map.remove(keys[index]);
+        } else {
+            map.put(keys[index], index);
+        }
+        present[index] = !present[index];
+        return null;
+    }
+}
@@ -0,0 +1,207 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mylistpackage.DoubleArrayListUnsorted;
+import mylistpackage.IntArrayListUnsorted;
+import mylistpackage.LongArrayListUnsorted;
+
+/**
+ * Full-list scans of the unsorted primitive lists with and without the
+ * Vector API.
+ *
+ * Each scan runs twice: the vector methods fork a JVM with the
+ * jdk.incubator.vector module, and the scalar methods fork one with the
+ * scalar loops forced. The lists hold random values below size, and
+ * getIndex looks for a value that is absent, so every scan reads the
+ * whole list.
+ *
+ * Run with: java -jar target/benchmarks.jar VectorScanBenchmark -p size=1000000
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class VectorScanBenchmark {
+
+    /** JVM options of the forks that use the Vector API. */
+    private static final String VECTOR = "--add-modules=jdk.incubator.vector";
+
+    /** JVM options of the forks that use the scalar loops. */
+    private static final String SCALAR = "-Dmylistpackage.scalarScans=true";
+
+    /** element type of the list under test. */
+    @Param({"int", "long", "double"})
+    public String type;
+
+    /** number of elements in the list. */
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    /** the int list, if type is int. */
+    private IntArrayListUnsorted ints;
+
+    /** the long list, if type is long. */
+    private LongArrayListUnsorted longs;
+
+    /** the double list, if type is double. */
+    private DoubleArrayListUnsorted doubles;
+
+    /**
+     * Builds the list of the type under test.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        switch (type) {
+            case "int":
+                ints = new IntArrayListUnsorted(size);
+                for (int i = 0; i < size; i++) {
+                    ints.insert(random.nextInt(size));
+                }
+                break;
+            case "long":
+                longs = new LongArrayListUnsorted(size);
+                for (int i = 0; i < size; i++) {
+                    longs.insert(random.nextInt(size));
+                }
+                break;
+            case "double":
+                doubles = new DoubleArrayListUnsorted(size);
+                for (int i = 0; i < size; i++) {
+                    doubles.insert(random.nextInt(size));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("type: " + type);
+        }
+    }
+
+    /**
+     * Looks for an absent value.
+     *
+     * @return -1
+     */
+    private int getIndex() {
+        switch (type) {
+            case "int":
+                return ints.getIndex(-1);
+            case "long":
+                return longs.getIndex(-1);
+            default:
+                return doubles.getIndex(-1);
+        }
+    }
+
+    /**
+     * Counts the values in the lower half of the value range.
+     *
+     * @return the count
+     */
+    private int countInRange() {
+        switch (type) {
+            case "int":
+                return ints.countInRange(0, size / 2);
+            case "long":
+                return longs.countInRange(0, size / 2);
+            default:
+                return doubles.countInRange(0, size / 2);
+        }
+    }
+
+    /**
+     * Finds the smallest and the largest value.
+     *
+     * @return their sum
+     */
+    private double minMax() {
+        switch (type) {
+            case "int":
+                return (double) ints.min() + ints.max();
+            case "long":
+                return (double) longs.min() + longs.max();
+            default:
+                return doubles.min() + doubles.max();
+        }
+    }
+
+    /**
+     * Searches with SIMD equality.
+     *
+     * @return -1
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR)
+    public int vectorGetIndex() {
+        return getIndex();
+    }
+
+    /**
+     * Searches with the scalar loop.
+     *
+     * @return -1
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = SCALAR)
+    public int scalarGetIndex() {
+        return getIndex();
+    }
+
+    /**
+     * Counts with SIMD comparisons.
+     *
+     * @return the count
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR)
+    public int vectorCountInRange() {
+        return countInRange();
+    }
+
+    /**
+     * Counts with the scalar loop.
+     *
+     * @return the count
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = SCALAR)
+    public int scalarCountInRange() {
+        return countInRange();
+    }
+
+    /**
+     * Finds the extremes with SIMD min and max.
+     *
+     * @return their sum
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR)
+    public double vectorMinMax() {
+        return minMax();
+    }
+
+    /**
+     * Finds the extremes with the scalar loops.
+     *
+     * @return their sum
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = SCALAR)
+    public double scalarMinMax() {
+        return minMax();
+    }
+}
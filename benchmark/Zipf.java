@@ -0,0 +1,75 @@
+package benchmark;
+
+import java.util.Random;
+
+/**
+ * Samples ranks 0 .. n - 1 where rank r is drawn with probability
+ * proportional to 1 / (r + 1)^exponent. permutation scatters the ranks
+ * over keys or words, so the most frequent ones are not also the smallest.
+ */
+public class Zipf {
+
+    /** running total of the weights of ranks 0 .. r. */
+    private final double[] cumulative;
+
+    /**
+     * Constructs a sampler over n ranks.
+     *
+     * @param n number of ranks > 0
+     * @param exponent skew; 0 is uniform, larger values are more skewed
+     * @throws IllegalArgumentException if n <= 0
+     */
+    public Zipf(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n: " + n);
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+    }
+
+    /**
+     * Draws the next rank.
+     *
+     * @param random source of randomness
+     * @return a rank in 0 .. n - 1
+     */
+    public int next(Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int lowerBound = 0;
+        int upperBound = cumulative.length - 1;
+        while (lowerBound < upperBound) {
+            int midPoint = (lowerBound + upperBound) >>> 1;
+            if (cumulative[midPoint] < target) {
+                lowerBound = midPoint + 1;
+            } else {
+                upperBound = midPoint;
+            }
+        }
+        return lowerBound;
+    }
+
+    /**
+     * Returns a random permutation of 0 .. n - 1.
+     *
+     * @param n number of elements
+     * @param random source of randomness
+     * @return the permutation
+     */
+    public static int[] permutation(int n, Random random) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+        return order;
+    }
+}
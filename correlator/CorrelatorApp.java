@@ -35,41 +35,14 @@ public class CorrelatorApp {
 			e.printStackTrace();
 		}
 		
-		String currentWord;
-		Integer numTimes;
-		int numInsertions = 0;
-		
-		while ((currentWord = CorrelatorApp.getWord(hamlet)) != null) {
-			numTimes = hamletMap.get(currentWord);
-			if(numTimes == null)
-				numTimes = 0;
-			numTimes++;
-			hamletMap.put(currentWord, numTimes);
-			numInsertions++;
-		}
+		int numInsertions = countWords(hamlet, hamletMap);
 		System.out.println("Hamlet map: " + numInsertions + " insertions.");
 		
-		numInsertions = 0;
-		while ((currentWord = CorrelatorApp.getWord(newAtlantis)) != null) {
-			numTimes = atlantisMap.get(currentWord);
-			if(numTimes == null)
-				numTimes = 0;
-			numTimes++;
-			atlantisMap.put(currentWord, numTimes);
-			numInsertions++;
-		}
+		numInsertions = countWords(newAtlantis, atlantisMap);
 		System.out.println("The New Atlantis map: " + numInsertions + " insertions.");
 		
-		Heap<HeapEntry<String, Integer>> hamletHeap = new Heap<>(new HeapEntry<>());
-		Heap<HeapEntry<String, Integer>> atlantisHeap = new Heap<>(new HeapEntry<>());
-		
-		
-		for (String key : hamletMap.keySet()) {
-			hamletHeap.add(new HeapEntry<String, Integer>(key, hamletMap.get(key)));
-		}
-		for (String key : atlantisMap.keySet()) {
-			atlantisHeap.add(new HeapEntry<String, Integer>(key, atlantisMap.get(key)));
-		}
+		Heap<HeapEntry<String, Integer>> hamletHeap = buildHeap(hamletMap);
+		Heap<HeapEntry<String, Integer>> atlantisHeap = buildHeap(atlantisMap);
 		
 		System.out.println("\nHamlet writer's signature:");
 		for (int i = 0; i < 10; i++) {
@@ -88,21 +61,8 @@ public class CorrelatorApp {
 		System.out.println("\nDocument correlation:");
 		
 		
-		HashMap<String, Integer> hamletNorm = new HashMap<>();
-		for (String key : hamletMap.keySet()) {
-			Integer count = hamletMap.get(key);
-			double frequency = ((double) count / (double) hamletMap.size());
-			if (frequency < 0.01 && frequency > 0.0001)
-				hamletNorm.put(key, count);
-		}
-		
-		HashMap<String, Integer> atlantisNorm = new HashMap<>();
-		for (String key : atlantisMap.keySet()) {
-			Integer count = atlantisMap.get(key);
-			double frequency = ((double) count / (double) hamletMap.size());
-			if (frequency < 0.01 && frequency > 0.0001)
-				atlantisNorm.put(key, count);
-		}
+		HashMap<String, Integer> hamletNorm = normalize(hamletMap, hamletMap.size());
+		HashMap<String, Integer> atlantisNorm = normalize(atlantisMap, hamletMap.size());
 
 		int intersection = hamletNorm.intersection(atlantisNorm);
 		int union = hamletNorm.union(atlantisNorm);
@@ -112,13 +72,79 @@ public class CorrelatorApp {
 		System.out.println("Jaccard index: " + (double) intersection / union);
 	}
 	
+	/**
+	 * Counts every word of a file into a map of word frequencies.
+	 * 
+	 * @param file the file to read from
+	 * @param map the map that receives the counts
+	 * @return the number of words counted
+	 */
+	public static int countWords(Scanner file, HashMap<String, Integer> map) {
+		String currentWord;
+		int numInsertions = 0;
+		while ((currentWord = getWord(file)) != null) {
+			count(map, currentWord);
+			numInsertions++;
+		}
+		return numInsertions;
+	}
+	
+	/**
+	 * Adds one occurrence of a word to a map of word frequencies.
+	 * 
+	 * @param map the map that receives the count
+	 * @param word the word
+	 */
+	public static void count(HashMap<String, Integer> map, String word) {
+		Integer numTimes = map.get(word);
+		if (numTimes == null)
+			numTimes = 0;
+		numTimes++;
+		map.put(word, numTimes);
+	}
+	
+	/**
+	 * Builds a heap that orders the words of a frequency map from most to
+	 * least frequent.
+	 * 
+	 * @param map the word frequencies
+	 * @return a heap of the word frequencies
+	 */
+	public static Heap<HeapEntry<String, Integer>> buildHeap(HashMap<String, Integer> map) {
+		Heap<HeapEntry<String, Integer>> heap = new Heap<>(new HeapEntry<>());
+		for (String key : map.keySet()) {
+			heap.add(new HeapEntry<String, Integer>(key, map.get(key)));
+		}
+		return heap;
+	}
+	
+	/**
+	 * Returns the words of a frequency map whose frequency, relative to the
+	 * given number of words, is neither too common nor too rare to
+	 * characterize a writer.
+	 * 
+	 * @param map the word frequencies
+	 * @param numWords the number of words the frequencies are relative to
+	 * @return the words within the frequency band, with their counts
+	 */
+	public static HashMap<String, Integer> normalize(HashMap<String, Integer> map, int numWords) {
+		HashMap<String, Integer> norm = new HashMap<>();
+		for (String key : map.keySet()) {
+			Integer count = map.get(key);
+			double frequency = ((double) count / (double) numWords);
+			if (frequency < 0.01 && frequency > 0.0001)
+				norm.put(key, count);
+		}
+		return norm;
+	}
+	
 	/**
      * Return the next word in a file.
      * @param file  the file to read from
      * @return  the next word in the file of length >= 3, or null if there is no next word
      * A word is defined here as a consecutive sequence of alphanumeric characters.
      */
-    private static String getWord(Scanner file) {
+    public static String getWord(Scanner file) {
        String word = null;
        while (file.hasNext()) {
            word = file.next();
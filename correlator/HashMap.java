@@ -5,6 +5,7 @@
 
 package correlator;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -220,22 +221,35 @@ public class HashMap<K, V> implements MyTreeMap<K, V> {
      * @return a String representation of this HashMap
      */
     public String toString() {
-        String result = "[";
+        return Strings.toString(this::writeTo);
+    }
+
+    /**
+     * Writes the contents of this HashMap to out in the same format as
+     * toString, one entry at a time.
+     * 
+     * @param out where the contents are written
+     * @throws IOException if out throws one
+     */
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        out.append('[');
         boolean first = true;
         if (!isEmpty()) {
             for (int i = 0; i < elementData.length; i++) {
                 HashEntry<K, V> current = elementData[i];
                 while (current != null) {
                     if (!first) {
-                        result += ", ";
+                        out.append(", ");
                     }
-                    result += current.key + "=" + current.value;
+                    out.append(String.valueOf(current.key)).append('=')
+                       .append(String.valueOf(current.value));
                     first = false;
                     current = current.next;
                 }
             }
         }
-        return result + "]";
+        out.append(']');
     }
     
     /**
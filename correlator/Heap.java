@@ -5,6 +5,7 @@
 
 package correlator;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
@@ -152,14 +153,25 @@ public class Heap<E extends Comparator<E>> {
     // Returns a string representation of this queue, such as "[10, 20, 30]";
     // The elements are not guaranteed to be listed in sorted order.
     public String toString() {
-        String result = "[";
-        if (!isEmpty()) {
-            result += elementData[1];
-            for (int i = 2; i <= size; i++) {
-                result += ", " + elementData[i];
+        return Strings.toString(this::writeTo);
+    }
+
+    /**
+     * Writes the contents of this Heap to out in the same format as
+     * toString, one entry at a time.
+     * 
+     * @param out where the contents are written
+     * @throws IOException if out throws one
+     */
+    public void writeTo(Appendable out) throws IOException {
+        out.append('[');
+        for (int i = 1; i <= size; i++) {
+            if (i > 1) {
+                out.append(", ");
             }
+            out.append(String.valueOf(elementData[i]));
         }
-        return result + "]";
+        out.append(']');
     }
     
     
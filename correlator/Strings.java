@@ -0,0 +1,46 @@
+package correlator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Helpers shared by the containers of this package.
+ */
+final class Strings {
+
+    /**
+     * Anything that can write its contents to an Appendable, such as
+     * writeTo of HashMap and Heap.
+     */
+    interface Writer {
+
+        /**
+         * Writes the contents to out.
+         *
+         * @param out where the contents are written
+         * @throws IOException if out throws one
+         */
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    private Strings() {
+    }
+
+    /**
+     * Returns what writer writes, collected in a StringBuilder, so toString
+     * and writeTo cannot disagree.
+     *
+     * @param writer usually this::writeTo
+     * @return the contents as a string
+     */
+    static String toString(Writer writer) {
+        StringBuilder result = new StringBuilder();
+        try {
+            writer.writeTo(result);
+        } catch (IOException e) {
+            // a StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,455 @@
+package mylistpackage;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Represents an abstract node-based list whose nodes live in an arena: the
+ * value and the link of node i are data[i] and next[i] in two parallel
+ * arrays, and links are int indexes instead of references. Removed slots
+ * go on a free list and are handed out again by the next insert, so once
+ * the arena has grown to the largest size the list reaches, inserts and
+ * removals allocate nothing.
+ *
+ * @param <E> the type that is in the list
+ */
+public abstract class AbstractArenaMyList<E> implements MyList<E> {
+
+    /**
+     * default arena capacity.
+     */
+    protected static final int DEFAULT_CAPACITY = 100;
+
+    /**
+     * link value that marks the end of a chain.
+     */
+    protected static final int NIL = -1;
+
+    /**
+     * value of each slot
+     */
+    protected Object[] data;
+
+    /**
+     * slot of the following node, or NIL; for free slots, the next free slot
+     */
+    protected int[] next;
+
+    /**
+     * slot of the first node, or NIL if the list is empty
+     */
+    protected int head;
+
+    /**
+     * slot of the last node, or NIL if the list is empty
+     */
+    protected int tail;
+
+    /**
+     * index of the last element in the list
+     */
+    protected int size;
+
+    /**
+     * first slot of the free list, or NIL
+     */
+    private int free;
+
+    /**
+     * number of slots that have ever been handed out
+     */
+    private int used;
+
+    /**
+     * decides how the arena grows
+     */
+    protected GrowthPolicy growthPolicy;
+
+    /**
+     * Constructs an empty list with room for the given number of nodes.
+     *
+     * @param capacity > 0
+     * @param growthPolicy decides how the arena grows
+     * @throws IllegalArgumentException if capacity <= 0 or growthPolicy is null
+     */
+    protected AbstractArenaMyList(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("growthPolicy: null");
+        }
+        data = new Object[capacity];
+        next = new int[capacity];
+        this.growthPolicy = growthPolicy;
+        head = NIL;
+        tail = NIL;
+        free = NIL;
+        used = 0;
+        size = -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#getSize()
+     */
+    public int getSize() {
+        return size + 1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#isEmpty()
+     */
+    public boolean isEmpty() {
+        return size == -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#contains(java.lang.Object)
+     */
+    public boolean contains(E value) {
+        return getIndex(value) >= 0;
+    }
+
+    /**
+     * Clears the list. The arena keeps its capacity.
+     *
+     * @see mylistpackage.MyList#clear()
+     */
+    public void clear() {
+        Arrays.fill(data, 0, used, null);
+        head = NIL;
+        tail = NIL;
+        free = NIL;
+        used = 0;
+        size = -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#remove(java.lang.Object)
+     */
+    public void remove(E value) {
+        int index = getIndex(value);
+        if (index >= 0) {
+            removeAtIndex(index);
+        }
+    }
+
+    /**
+     * Removes every element that satisfies the filter in one traversal,
+     * returning each matching slot to the free list.
+     *
+     * @see mylistpackage.MyList#removeIf(java.util.function.Predicate)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("filter: null");
+        }
+        boolean removed = false;
+        int previous = NIL;
+        int slot = head;
+        while (slot != NIL) {
+            int following = next[slot];
+            if (filter.test((E) data[slot])) {
+                unlinkAfter(previous);
+                removed = true;
+            } else {
+                previous = slot;
+            }
+            slot = following;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the number of nodes the arena can hold before it grows.
+     *
+     * @return the length of the slot arrays
+     */
+    public int getCapacity() {
+        return data.length;
+    }
+
+    /**
+     * Creates a comma-separated, bracketed version of the list.
+     *
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return MyLists.toString(this);
+    }
+
+    /**
+     * @see mylistpackage.MyList#writeTo(java.lang.Appendable)
+     */
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        out.append('[');
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (slot != head) {
+                out.append(", ");
+            }
+            out.append(String.valueOf(data[slot]));
+        }
+        out.append(']');
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    public int getIndex(E value) {
+        int index = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (data[slot].equals(value)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value at the given index in the list.
+     *
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @return the value at the given index in the list.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) data[slotAt(index)];
+    }
+
+    /**
+     * Removes value at the given index, shifting subsequent values up.
+     *
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        unlinkAfter(index == 0 ? NIL : slotAt(index - 1));
+    }
+
+    /**
+     * Returns the slot of the node at a specific index.
+     *
+     * @param index where 0 <= index <= size
+     * @return the slot of the node at index
+     */
+    protected int slotAt(int index) {
+        int slot = head;
+        for (int i = 0; i < index; i++) {
+            slot = next[slot];
+        }
+        return slot;
+    }
+
+    /**
+     * Checks if the index is a legal index of the current list.
+     *
+     * @param index
+     * @throws IndexOutOfBoundsException if the given index is not a legal index of the current list
+     */
+    protected void checkIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Takes a slot from the free list, or a fresh one if the free list is
+     * empty, growing the arena when it is full, and stores value in it.
+     *
+     * @param value the value of the new node
+     * @return the slot of the new node
+     */
+    protected int allocate(E value) {
+        int slot;
+        if (free != NIL) {
+            slot = free;
+            free = next[slot];
+        } else {
+            if (used == data.length) {
+                int capacity = growthPolicy.grow(data.length, used + 1);
+                data = Arrays.copyOf(data, capacity);
+                next = Arrays.copyOf(next, capacity);
+            }
+            slot = used;
+            used++;
+        }
+        data[slot] = value;
+        next[slot] = NIL;
+        return slot;
+    }
+
+    /**
+     * Links a new node holding value after the node in the given slot.
+     *
+     * @param previous the slot to link after, or NIL to link at the front
+     * @param value the value to insert
+     */
+    protected void linkAfter(int previous, E value) {
+        int slot = allocate(value);
+        if (previous == NIL) {
+            next[slot] = head;
+            head = slot;
+        } else {
+            next[slot] = next[previous];
+            next[previous] = slot;
+        }
+        if (previous == tail) {
+            tail = slot;
+        }
+        size++;
+    }
+
+    /**
+     * Unlinks the node after the given slot and returns its slot to the
+     * free list.
+     *
+     * @param previous the slot in front of the node to remove, or NIL to
+     *            remove the first node
+     */
+    protected void unlinkAfter(int previous) {
+        int slot;
+        if (previous == NIL) {
+            slot = head;
+            head = next[slot];
+        } else {
+            slot = next[previous];
+            next[previous] = next[slot];
+        }
+        if (slot == tail) {
+            tail = previous;
+        }
+        data[slot] = null;
+        next[slot] = free;
+        free = slot;
+        size--;
+    }
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Returns an iterator for this list.
+     *
+     * @return an iterator for the list.
+     */
+    public Iterator<E> iterator() {
+        return new ArenaIterator();
+    }
+
+    /**
+     * Represents an iterator that follows the slot links.
+     */
+    private class ArenaIterator implements Iterator<E> {
+
+        /**
+         * Slot of the next value to return.
+         */
+        private int current;
+
+        /**
+         * Slot of the value last returned.
+         */
+        private int prior;
+
+        /**
+         * Slot in front of prior, so prior can be unlinked without a search.
+         */
+        private int previous;
+
+        /**
+         * Index of the next value to return.
+         */
+        private int position;
+
+        /**
+         * flag that indicates whether list element can be removed.
+         */
+        private boolean removeOK;
+
+        /**
+         * Constructs an iterator for the given list.
+         */
+        public ArenaIterator() {
+            current = head;
+            prior = NIL;
+            previous = NIL;
+            position = 0;
+            removeOK = false;
+        }
+
+        /**
+         * Returns whether there are more list elements.
+         *
+         * @return true if there are more elements left, false otherwise
+         * @see java.util.Iterator#hasNext()
+         */
+        public boolean hasNext() {
+            return position <= size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @throws NoSuchElementException if no more elements.
+         * @return the next element in the iteration.
+         * @see java.util.Iterator#next()
+         */
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (removeOK) {
+                previous = prior;
+            }
+            prior = current;
+            E result = (E) data[current];
+            current = next[current];
+            position++;
+            removeOK = true;
+            return result;
+        }
+
+        /**
+         * Removes the last element returned by the iterator.
+         *
+         * @throws IllegalStateException if a call to next has not been made
+         *             before call to remove.
+         * @see java.util.Iterator#remove()
+         */
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            unlinkAfter(previous);
+            position--;
+            removeOK = false;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods end
+     *********************************************/
+}
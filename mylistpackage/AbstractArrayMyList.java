@@ -5,9 +5,18 @@
 
 package mylistpackage;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
 
 /**
  * Represents an abstract basic array-based list.
@@ -23,6 +32,11 @@ public abstract class AbstractArrayMyList<E> implements MyList<E> {
      */
     protected static final int DEFAULT_CAPACITY = 100;
 
+    /**
+     * default growth policy.
+     */
+    protected static final GrowthPolicy DEFAULT_GROWTH_POLICY = new GeometricGrowthPolicy(1.5);
+
     /**
      * list of values
      */
@@ -32,6 +46,42 @@ public abstract class AbstractArrayMyList<E> implements MyList<E> {
      * index of the last element in the list
      */
     protected int size;
+
+    /**
+     * decides how elementData grows and shrinks
+     */
+    protected GrowthPolicy growthPolicy;
+
+    /**
+     * capacity given at construction; removals never shrink below it
+     */
+    protected int initialCapacity;
+
+    /**
+     * first four bytes of a snapshot file, "MYLS".
+     */
+    private static final int SNAPSHOT_MAGIC = 0x4D594C53;
+
+    /**
+     * snapshot format version.
+     */
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /**
+     * header flag set when the records are in sorted order.
+     */
+    private static final int SNAPSHOT_SORTED = 1;
+
+    /**
+     * bytes in a snapshot header: magic, version, flags, record width and
+     * record count, little-endian.
+     */
+    private static final int SNAPSHOT_HEADER = 24;
+
+    /**
+     * bytes written per FileChannel call when writing a snapshot.
+     */
+    private static final int SNAPSHOT_CHUNK = 1 << 20;
     
     /**
      * @see mylistpackage.MyList#getSize()
@@ -53,32 +103,103 @@ public abstract class AbstractArrayMyList<E> implements MyList<E> {
      * @see java.lang.Object#toString()
      */
     public String toString() {
-        if (size == -1) {
-            return "[]";
-        } else {
-            String result = "[" + elementData[0];
-            for (int i = 1; i <= size; i++) {
-                result += ", " + elementData[i];
+        return MyLists.toString(this);
+    }
+
+    /**
+     * @see mylistpackage.MyList#writeTo(java.lang.Appendable)
+     */
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        out.append('[');
+        for (int i = 0; i <= size; i++) {
+            if (i > 0) {
+                out.append(", ");
             }
-            result += "]";
-            return result;
+            out.append(String.valueOf(elementData[i]));
         }
+        out.append(']');
+    }
+    
+    /**
+     * @see mylistpackage.MyList#clear()
+     */
+    public void clear() {
+        Arrays.fill(elementData, 0, size + 1, null);
+        size = -1;
+    }
+
+    /**
+     * Returns the number of elements the list can hold before it grows.
+     * 
+     * @return the length of the underlying array
+     */
+    public int getCapacity() {
+        return elementData.length;
     }
     
     /**
      * Ensures that the underlying array has the given capacity; if not,
-     * increases the size by 100.
+     * grows it as the growth policy decides. Call before a bulk load of a
+     * known size to grow only once.
      * 
-     * @param capacity > elementData.length.
+     * @param capacity the number of elements the list must be able to hold
      */
-    protected void ensureCapacity(int capacity) {
+    public void ensureCapacity(int capacity) {
         if (capacity > elementData.length) {
-            int newCapacity = elementData.length + 100;
-            if (capacity > newCapacity) {
-                newCapacity = capacity;
+            elementData = Arrays.copyOf(elementData,
+                    growthPolicy.grow(elementData.length, capacity));
+        }
+    }
+
+    /**
+     * Shrinks the underlying array to the current number of elements.
+     */
+    public void trimToSize() {
+        if (elementData.length > size + 1) {
+            elementData = Arrays.copyOf(elementData, size + 1);
+        }
+    }
+
+    /**
+     * Shrinks the underlying array if the growth policy decides it has too
+     * many unused slots, but never below the initial capacity. Called after
+     * every removal.
+     */
+    protected void shrinkIfSparse() {
+        int capacity = Math.max(growthPolicy.shrink(elementData.length, size + 1),
+                initialCapacity);
+        if (capacity < elementData.length) {
+            elementData = Arrays.copyOf(elementData, capacity);
+        }
+    }
+
+    /**
+     * Removes every element that satisfies the filter in one pass, sliding
+     * the kept elements down over the removed ones.
+     * 
+     * @see mylistpackage.MyList#removeIf(java.util.function.Predicate)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("filter: null");
+        }
+        int kept = 0;
+        for (int i = 0; i <= size; i++) {
+            E value = elementData[i];
+            if (!filter.test(value)) {
+                elementData[kept] = value;
+                kept++;
             }
-            elementData = Arrays.copyOf(elementData, newCapacity);
         }
+        if (kept == size + 1) {
+            return false;
+        }
+        Arrays.fill(elementData, kept, size + 1, null);
+        size = kept - 1;
+        shrinkIfSparse();
+        return true;
     }
 
     /*********************************************
@@ -103,6 +224,130 @@ public abstract class AbstractArrayMyList<E> implements MyList<E> {
      * Index list methods end
      *********************************************/
 
+    /**
+     * Writes the list to a binary snapshot file: a 24-byte header followed
+     * by one fixed-width record per element, in list order. Any existing
+     * file is replaced.
+     * 
+     * @param file the file to write
+     * @param codec converts the elements to records
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if codec is null
+     */
+    public void writeSnapshot(Path file, RecordCodec<? super E> codec) throws IOException {
+        writeRecords(file, codec, false);
+    }
+
+    /**
+     * Writes the header and the records of a snapshot through a FileChannel,
+     * a chunk at a time from a direct buffer.
+     * 
+     * @param file the file to write
+     * @param codec converts the elements to records
+     * @param sorted whether the records are in sorted order
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if codec is null
+     */
+    protected void writeRecords(Path file, RecordCodec<? super E> codec, boolean sorted)
+            throws IOException {
+        if (codec == null) {
+            throw new IllegalArgumentException("codec: null");
+        }
+        int width = codec.width();
+        ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION)
+              .putInt(sorted ? SNAPSHOT_SORTED : 0).putInt(width).putLong(size + 1);
+        header.flip();
+
+        int perChunk = Math.max(1, SNAPSHOT_CHUNK / width);
+        ByteBuffer chunk = ByteBuffer.allocateDirect(perChunk * width).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            for (int start = 0; start <= size; start += perChunk) {
+                int count = Math.min(perChunk, size + 1 - start);
+                chunk.clear();
+                for (int i = 0; i < count; i++) {
+                    codec.write(chunk, i * width, elementData[start + i]);
+                }
+                chunk.limit(count * width);
+                writeFully(channel, chunk);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the list with the records of a snapshot file.
+     * The file is memory-mapped and the records are decoded straight into a
+     * new array of exactly the right size, without comparing any elements.
+     * 
+     * @param file the file to read
+     * @param codec converts the records to elements; must have the width the
+     *            snapshot was written with
+     * @return whether the snapshot was written in sorted order
+     * @throws IOException if the file cannot be read or is not a snapshot
+     *             written with a codec of this width
+     * @throws IllegalArgumentException if codec is null
+     */
+    protected boolean readRecords(Path file, RecordCodec<? extends E> codec) throws IOException {
+        if (codec == null) {
+            throw new IllegalArgumentException("codec: null");
+        }
+        int width = codec.width();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < SNAPSHOT_HEADER) {
+                throw new IOException(file + ": not a snapshot");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, SNAPSHOT_HEADER)
+                                       .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != SNAPSHOT_MAGIC || header.getInt(4) != SNAPSHOT_VERSION) {
+                throw new IOException(file + ": not a snapshot");
+            }
+            if (header.getInt(12) != width) {
+                throw new IOException(file + ": records are " + header.getInt(12)
+                                      + " bytes, codec reads " + width);
+            }
+            long records = header.getLong(16);
+            if (records < 0 || records > Integer.MAX_VALUE - 8
+                    || length != SNAPSHOT_HEADER + records * width) {
+                throw new IOException(file + ": truncated or corrupt snapshot");
+            }
+
+            int count = (int) records;
+            E[] data = Arrays.copyOf(elementData, Math.max(count, initialCapacity));
+            Arrays.fill(data, null);
+            int perWindow = Integer.MAX_VALUE / width;
+            long position = SNAPSHOT_HEADER;
+            for (int start = 0; start < count; start += perWindow) {
+                int windowCount = Math.min(perWindow, count - start);
+                ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                                                (long) windowCount * width)
+                                           .order(ByteOrder.LITTLE_ENDIAN);
+                for (int i = 0; i < windowCount; i++) {
+                    data[start + i] = codec.read(window, i * width);
+                }
+                position += (long) windowCount * width;
+            }
+            elementData = data;
+            size = count - 1;
+            return (header.getInt(8) & SNAPSHOT_SORTED) != 0;
+        }
+    }
+
+    /**
+     * Writes all remaining bytes of a buffer to a channel.
+     * 
+     * @param channel the channel to write to
+     * @param buffer the bytes to write
+     * @throws IOException if the channel cannot be written
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
     /*********************************************
      * Iterator list class / methods follow
      *********************************************/
@@ -116,6 +361,18 @@ public abstract class AbstractArrayMyList<E> implements MyList<E> {
         return new ArrayListIterator();
     }
 
+    /**
+     * Returns a spliterator over elementData that splits exactly in half
+     * and reports SIZED and SUBSIZED. It covers the elements present when
+     * it is created.
+     *
+     * @see mylistpackage.MyList#spliterator()
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(elementData, 0, size + 1, Spliterator.ORDERED);
+    }
+
     /**
      * Represents an iterator for the list.
      * 
@@ -0,0 +1,284 @@
+package mylistpackage;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Represents an abstract thread-safe list for data that is read far more
+ * often than it changes. The values sit in an exactly sized array that is
+ * never modified once published; readers load the current array from a
+ * volatile field and work on it without locks. A writer copies the array
+ * into an ordinary array-based list, changes the copy and publishes it as
+ * a new array, holding a lock only against other writers.
+ *
+ * Every write costs a copy of the whole list, so several changes should be
+ * made in one call to mutate, which publishes once for all of them.
+ *
+ * @param <E> the type that is in the list
+ */
+public abstract class AbstractCopyOnWriteMyList<E> implements MyList<E> {
+
+    /**
+     * the published values; never modified, only replaced
+     */
+    protected volatile Object[] snapshot;
+
+    /**
+     * held by writers while they copy, change and publish
+     */
+    private final Object writeLock;
+
+    /**
+     * Constructs an empty list.
+     */
+    protected AbstractCopyOnWriteMyList() {
+        snapshot = new Object[0];
+        writeLock = new Object();
+    }
+
+    /**
+     * @see mylistpackage.MyList#getSize()
+     */
+    public int getSize() {
+        return snapshot.length;
+    }
+
+    /**
+     * @see mylistpackage.MyList#isEmpty()
+     */
+    public boolean isEmpty() {
+        return snapshot.length == 0;
+    }
+
+    /**
+     * @see mylistpackage.MyList#contains(java.lang.Object)
+     */
+    public boolean contains(E value) {
+        return getIndex(value) >= 0;
+    }
+
+    /**
+     * Runs a transaction against a private copy of the list and publishes
+     * the result as one new array. Readers see either none or all of the
+     * changes. If the transaction throws, nothing is published. Writers
+     * run one at a time; readers are never blocked.
+     *
+     * The list passed to the transaction is an ordinary array-based list
+     * that is valid only until the transaction returns.
+     *
+     * @param transaction makes the changes
+     * @throws IllegalArgumentException if transaction is null
+     */
+    public void mutate(Consumer<? super MyList<E>> transaction) {
+        if (transaction == null) {
+            throw new IllegalArgumentException("transaction: null");
+        }
+        synchronized (writeLock) {
+            AbstractArrayMyList<E> working = copyOf(snapshot);
+            transaction.accept(working);
+            snapshot = publish(working);
+        }
+    }
+
+    /**
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    public void insert(E value) {
+        mutate(list -> list.insert(value));
+    }
+
+    /**
+     * Clears the list by publishing an empty array.
+     *
+     * @see mylistpackage.MyList#clear()
+     */
+    public void clear() {
+        synchronized (writeLock) {
+            snapshot = new Object[0];
+        }
+    }
+
+    /**
+     * @see mylistpackage.MyList#remove(java.lang.Object)
+     */
+    public void remove(E value) {
+        mutate(list -> list.remove(value));
+    }
+
+    /**
+     * @see mylistpackage.MyList#removeIf(java.util.function.Predicate)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("filter: null");
+        }
+        boolean[] removed = new boolean[1];
+        mutate(list -> removed[0] = list.removeIf(filter));
+        return removed[0];
+    }
+
+    /**
+     * Creates a comma-separated, bracketed version of the list.
+     *
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return MyLists.toString(this);
+    }
+
+    /**
+     * @see mylistpackage.MyList#writeTo(java.lang.Appendable)
+     */
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        Object[] values = snapshot;
+        out.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(String.valueOf(values[i]));
+        }
+        out.append(']');
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the value at the given index in the list.
+     *
+     * @param index < getSize() and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index >= getSize()
+     * @return the value at the given index in the list.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Object[] values = snapshot;
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        return (E) values[index];
+    }
+
+    /**
+     * @see mylistpackage.MyList#removeAtIndex(int)
+     */
+    public void removeAtIndex(int index) {
+        mutate(list -> list.removeAtIndex(index));
+    }
+
+    /**
+     * @see mylistpackage.MyList#set(int, java.lang.Object)
+     */
+    public void set(int index, E value) {
+        mutate(list -> list.set(index, value));
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Returns a new array-based list holding the given values, for a
+     * writer to change.
+     *
+     * @param values the published values
+     * @return a mutable copy
+     */
+    protected abstract AbstractArrayMyList<E> copyOf(Object[] values);
+
+    /**
+     * Returns the values of a changed copy as an exactly sized array.
+     *
+     * @param working the copy a writer changed
+     * @return the array to publish
+     */
+    protected Object[] publish(AbstractArrayMyList<E> working) {
+        Object[] values = new Object[working.size + 1];
+        System.arraycopy(working.elementData, 0, values, 0, values.length);
+        return values;
+    }
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Returns an iterator over the array published when it is created. It
+     * never blocks and never sees later changes; it does not support
+     * remove.
+     *
+     * @return an iterator for the list.
+     */
+    public Iterator<E> iterator() {
+        return new SnapshotIterator<E>(snapshot);
+    }
+
+    /**
+     * Returns an exactly splitting spliterator over the array published
+     * when it is created.
+     *
+     * @see mylistpackage.MyList#spliterator()
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(snapshot, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Represents an iterator over one published array.
+     *
+     * @param <E> the type that is in the list
+     */
+    private static class SnapshotIterator<E> implements Iterator<E> {
+
+        /**
+         * The array being iterated.
+         */
+        private final Object[] values;
+
+        /**
+         * Index of the next value to return.
+         */
+        private int index;
+
+        /**
+         * Constructs an iterator over the given array.
+         *
+         * @param values a published array
+         */
+        SnapshotIterator(Object[] values) {
+            this.values = values;
+        }
+
+        /**
+         * @see java.util.Iterator#hasNext()
+         */
+        public boolean hasNext() {
+            return index < values.length;
+        }
+
+        /**
+         * @see java.util.Iterator#next()
+         */
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (index >= values.length) {
+                throw new NoSuchElementException();
+            }
+            return (E) values[index++];
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods end
+     *********************************************/
+}
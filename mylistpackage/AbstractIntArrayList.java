@@ -0,0 +1,336 @@
+package mylistpackage;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Represents an abstract array-based list of int values. Mirrors
+ * AbstractArrayMyList, but keeps the values unboxed, so the list costs
+ * 4 bytes per element and comparisons need no virtual calls.
+ */
+public abstract class AbstractIntArrayList {
+
+    /**
+     * list of values
+     */
+    protected int[] elementData;
+
+    /**
+     * index of the last element in the list
+     */
+    protected int size;
+
+    /**
+     * decides how elementData grows and shrinks
+     */
+    protected GrowthPolicy growthPolicy;
+
+    /**
+     * capacity given at construction; removals never shrink below it
+     */
+    protected int initialCapacity;
+
+    /**
+     * Constructs an empty list of the given capacity that grows and shrinks
+     * as the given policy decides.
+     * 
+     * @param capacity > 0
+     * @param growthPolicy decides how the list grows and shrinks
+     * @throws IllegalArgumentException if capacity <= 0 or growthPolicy is null
+     */
+    protected AbstractIntArrayList(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("growthPolicy: null");
+        }
+        elementData = new int[capacity];
+        size = -1;
+        this.growthPolicy = growthPolicy;
+        initialCapacity = capacity;
+    }
+
+    /**
+     * @see mylistpackage.MyList#getSize()
+     */
+    public int getSize() {
+        return size + 1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#isEmpty()
+     */
+    public boolean isEmpty() {
+        return size == -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#clear()
+     */
+    public void clear() {
+        size = -1;
+    }
+
+    /**
+     * Returns whether value is in the list.
+     * 
+     * @param value assigned
+     * @return true if value in the list, false otherwise.
+     */
+    public boolean contains(int value) {
+        return getIndex(value) >= 0;
+    }
+
+    /**
+     * Counts the values v in the list with lo <= v < hi. Scans the whole
+     * list, using SIMD instructions where the Vector API is available.
+     * 
+     * @param lo the smallest value counted
+     * @param hi the first value not counted; hi >= lo
+     * @return the number of values in [lo, hi)
+     * @throws IllegalArgumentException if lo > hi
+     */
+    public int countInRange(int lo, int hi) {
+        if (lo > hi) {
+            throw new IllegalArgumentException("lo: " + lo + " > hi: " + hi);
+        }
+        return ArrayScanner.SCANNER.countInRange(elementData, 0, size + 1, lo, hi);
+    }
+
+    /**
+     * Returns the smallest value in the list. Scans the whole list, using
+     * SIMD instructions where the Vector API is available.
+     * 
+     * @return the smallest value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int min() {
+        if (size == -1) {
+            throw new NoSuchElementException();
+        }
+        return ArrayScanner.SCANNER.min(elementData, 0, size + 1);
+    }
+
+    /**
+     * Returns the largest value in the list. Scans the whole list, using
+     * SIMD instructions where the Vector API is available.
+     * 
+     * @return the largest value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int max() {
+        if (size == -1) {
+            throw new NoSuchElementException();
+        }
+        return ArrayScanner.SCANNER.max(elementData, 0, size + 1);
+    }
+
+    /**
+     * Inserts an element into the list.
+     * 
+     * @param value assigned
+     */
+    public abstract void insert(int value);
+
+    /**
+     * Removes first element occurence from the list.
+     * 
+     * @param value assigned
+     */
+    public void remove(int value) {
+        int index = getIndex(value);
+        if (index >= 0) {
+            removeAtIndex(index);
+        }
+    }
+
+    /**
+     * Creates a comma-separated, bracketed version of the list.
+     * 
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i <= size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(elementData[i]);
+        }
+        return result.append("]").toString();
+    }
+
+    /**
+     * Returns the number of elements the list can hold before it grows.
+     * 
+     * @return the length of the underlying array
+     */
+    public int getCapacity() {
+        return elementData.length;
+    }
+
+    /**
+     * Ensures that the underlying array has the given capacity; if not,
+     * grows it as the growth policy decides.
+     * 
+     * @param capacity the number of elements the list must be able to hold
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elementData.length) {
+            elementData = Arrays.copyOf(elementData,
+                    growthPolicy.grow(elementData.length, capacity));
+        }
+    }
+
+    /**
+     * Shrinks the underlying array to the current number of elements.
+     */
+    public void trimToSize() {
+        if (elementData.length > size + 1) {
+            elementData = Arrays.copyOf(elementData, size + 1);
+        }
+    }
+
+    /**
+     * Shrinks the underlying array if the growth policy decides it has too
+     * many unused slots, but never below the initial capacity.
+     */
+    protected void shrinkIfSparse() {
+        int capacity = Math.max(growthPolicy.shrink(elementData.length, size + 1),
+                initialCapacity);
+        if (capacity < elementData.length) {
+            elementData = Arrays.copyOf(elementData, capacity);
+        }
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     * 
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    public abstract int getIndex(int value);
+
+    /**
+     * Removes value at the given index.
+     * 
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public abstract void removeAtIndex(int index);
+
+    /**
+     * Replaces the value at the given index with the given value.
+     * 
+     * @param index <= size and index >= 0
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public abstract void set(int index, int value);
+
+    /**
+     * Returns the value at the given index in the list.
+     * 
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @return the value at the given index in the list.
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return elementData[index];
+    }
+
+    /**
+     * Checks if the index is a legal index of the current list.
+     * 
+     * @param index
+     * @throws IndexOutOfBoundsException if the given index is not a legal index of the current list
+     */
+    protected void checkIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Returns an iterator for this list that hands out unboxed values
+     * through nextInt().
+     * 
+     * @return an iterator for the list.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntArrayListIterator();
+    }
+
+    /**
+     * Represents an unboxed iterator for the list.
+     */
+    private class IntArrayListIterator implements PrimitiveIterator.OfInt {
+
+        /**
+         * current position within the list.
+         */
+        private int position;
+
+        /**
+         * flag that indicates whether list element can be removed.
+         */
+        private boolean removeOK;
+
+        /**
+         * Returns whether there are more list elements.
+         * 
+         * @return true if there are more elements left, false otherwise
+         */
+        public boolean hasNext() {
+            return position <= size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         * 
+         * @throws NoSuchElementException if no more elements.
+         * @return the next element in the iteration.
+         */
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            removeOK = true;
+            return elementData[position++];
+        }
+
+        /**
+         * Removes the last element returned by the iterator.
+         * 
+         * @throws IllegalStateException if a call to next has not been made
+         *             before call to remove.
+         */
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            AbstractIntArrayList.this.removeAtIndex(position - 1);
+            position--;
+            removeOK = false;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods end
+     *********************************************/
+}
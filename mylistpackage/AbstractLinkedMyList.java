@@ -5,8 +5,10 @@
 
 package mylistpackage;
 
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /**
  * Represents an abstract basic node-based list.
@@ -26,6 +28,16 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
      * index of the last list element
      */
     protected int size;
+
+    /**
+     * Node most recently returned by nodeAt, or null if it may be stale.
+     */
+    protected ListNode<E> finger;
+
+    /**
+     * Index of the finger node.
+     */
+    protected int fingerIndex;
     
     /**
      * Constructs an empty list.
@@ -63,6 +75,7 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
     public void clear() {
         back = null;
         size = -1;
+        finger = null;
     }
     
     /**
@@ -71,17 +84,26 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
      * @see java.lang.Object#toString()
      */
     public String toString() {
-        if (size == -1) {
-            return "[]";
-        } else {
-            String result = "[" + back.next.data;
+        return MyLists.toString(this);
+    }
+
+    /**
+     * @see mylistpackage.MyList#writeTo(java.lang.Appendable)
+     */
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        out.append('[');
+        if (back != null) {
             ListNode<E> current = back.next;
-            for (int i = 0; i < size; i++) {
-            	result += ", " + current.next.data;
-            	current = current.next;
+            for (int i = 0; i <= size; i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                out.append(String.valueOf(current.data));
+                current = current.next;
             }
-            return result + "]";
         }
+        out.append(']');
     }
     
     /**
@@ -93,6 +115,38 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
         if (location > -1) 
            removeAtIndex(location);
     }
+
+    /**
+     * Removes every element that satisfies the filter in one traversal,
+     * unlinking each matching node from its predecessor.
+     * 
+     * @see mylistpackage.MyList#removeIf(java.util.function.Predicate)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("filter: null");
+        }
+        if (back == null) {
+            return false;
+        }
+        boolean removed = false;
+        ListNode<E> previous = back;
+        ListNode<E> current = back.next;
+        int index = 0;
+        for (int remaining = size + 1; remaining > 0; remaining--) {
+            ListNode<E> next = current.next;
+            if (filter.test(current.data)) {
+                unlinkNext(previous, index);
+                removed = true;
+            } else {
+                previous = current;
+                index++;
+            }
+            current = next;
+        }
+        return removed;
+    }
     
     /*********************************************
      * Index list methods follow
@@ -105,6 +159,9 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
      * @return index of value if in the list, -1 otherwise.
      */
     public int getIndex(E value) {
+        if (back == null) {
+            return -1;
+        }
         ListNode<E> current = back.next;
         for (int i = 0; i <= size; i++) {
             if (current.data.equals(value)) {
@@ -129,18 +186,60 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
     } 
 
     /**
-     * Returns the node at a specific index.
+     * Returns the node at a specific index. Walks forward from the node the
+     * previous call returned when index is not behind it, so sequential and
+     * near-sequential positional access is amortized O(1).
      * @param index where 0 <= index <= size
      * @return reference to the node at a specific index
      */
     protected ListNode<E> nodeAt(int index) {
         ListNode<E> current = back;
-        for (int i = 0; i <= index; i++) {
+        int i = -1;
+        if (finger != null && fingerIndex <= index) {
+            current = finger;
+            i = fingerIndex;
+        }
+        for (; i < index; i++) {
                 current = current.next;
         }
+        if (index >= 0) {
+            finger = current;
+            fingerIndex = index;
+        }
         return current;
     }
 
+    /**
+     * Forgets the finger if a structural change at the given index may have
+     * moved it. Nodes in front of index keep their positions.
+     * @param index the first index whose node may have moved
+     */
+    protected void invalidateFinger(int index) {
+        if (finger != null && fingerIndex >= index) {
+            finger = null;
+        }
+    }
+
+
+    /**
+     * Removes the node after previous in constant time.
+     * @param previous the node in front of the one to remove; back if the
+     *            first node is removed
+     * @param index the index of the node to remove
+     */
+    protected void unlinkNext(ListNode<E> previous, int index) {
+        invalidateFinger(index);
+        if (size == 0) {
+            back = null;
+        } else {
+            ListNode<E> node = previous.next;
+            previous.next = node.next;
+            if (node == back) {
+                back = previous;
+            }
+        }
+        size--;
+    }
     
     /**
      * Checks if the index is a legal index of the current list.
@@ -220,12 +319,26 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
          */
         private ListNode<E> prior;
 
+        /**
+         * Location of the node in front of prior, so prior can be unlinked
+         * without a search.
+         */
+        private ListNode<E> previous;
+
+        /**
+         * Index of the current value to return.
+         */
+        private int position;
+
         /**
          * Constructs an iterator for the given list.
          */
         public LinkedIterator() {
+            current = (back == null) ? null : back.next;
+            position = 0;
             removeOK = false;
             prior = null;
+            previous = back;
         }
 
         /**
@@ -235,7 +348,7 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
          * @see java.util.Iterator#hasNext()
          */
         public boolean hasNext() {
-            return current.next != back.next;
+            return position <= size;
         }
 
         /**
@@ -249,9 +362,13 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
+            if (removeOK) {
+                previous = prior;
+            }
             prior = current;
             E result = current.data;
             current = current.next;
+            position++;
             removeOK = true;
             return result;
         }
@@ -267,7 +384,8 @@ public abstract class AbstractLinkedMyList<E> implements MyList<E> {
             if (!removeOK) {
                 throw new IllegalStateException();
             }
-            AbstractLinkedMyList.this.remove(prior.data);
+            position--;
+            unlinkNext(previous, position);
             removeOK = false;
         }
     }
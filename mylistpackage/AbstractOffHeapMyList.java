@@ -0,0 +1,451 @@
+package mylistpackage;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Represents an abstract list whose elements are stored as fixed-width
+ * records in a direct ByteBuffer, outside of the garbage-collected heap.
+ * The heap only holds this object and the buffer handle, whatever the size
+ * of the list. Values are encoded and decoded by a RecordCodec.
+ *
+ * The memory is released by close(); after that every operation, including
+ * getSize and isEmpty, throws IllegalStateException. The buffer grows and
+ * shrinks as the growth policy decides, but never below its initial
+ * capacity. A single buffer holds at most 2 GB of records.
+ *
+ * @param <E> the type that is in the list
+ */
+public abstract class AbstractOffHeapMyList<E> implements MyList<E>, AutoCloseable {
+
+    /**
+     * Unsafe.invokeCleaner, used to free a direct buffer right away, or
+     * null if it is not available.
+     */
+    private static final Method INVOKE_CLEANER;
+
+    /**
+     * the sun.misc.Unsafe instance INVOKE_CLEANER is called on.
+     */
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // fall back to letting the garbage collector free the buffer
+            invokeCleaner = null;
+            unsafe = null;
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    /**
+     * the records, or null once the list is closed
+     */
+    protected ByteBuffer buffer;
+
+    /**
+     * converts values to and from records
+     */
+    protected final RecordCodec<E> codec;
+
+    /**
+     * bytes per record
+     */
+    protected final int width;
+
+    /**
+     * index of the last element in the list
+     */
+    protected int size;
+
+    /**
+     * decides how the buffer grows and shrinks
+     */
+    protected GrowthPolicy growthPolicy;
+
+    /**
+     * capacity given at construction; removals never shrink below it
+     */
+    protected int initialCapacity;
+
+    /**
+     * Constructs an empty list with room for the given number of records.
+     *
+     * @param codec converts values to and from records
+     * @param capacity > 0
+     * @param growthPolicy decides how the buffer grows and shrinks
+     * @throws IllegalArgumentException if codec or growthPolicy is null, or
+     *             capacity <= 0
+     */
+    protected AbstractOffHeapMyList(RecordCodec<E> codec, int capacity,
+                                    GrowthPolicy growthPolicy) {
+        if (codec == null || codec.width() <= 0) {
+            throw new IllegalArgumentException("codec: " + codec);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("growthPolicy: null");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.growthPolicy = growthPolicy;
+        buffer = allocate(capacity);
+        size = -1;
+        initialCapacity = capacity;
+    }
+
+    /**
+     * @see mylistpackage.MyList#getSize()
+     */
+    public int getSize() {
+        checkOpen();
+        return size + 1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#isEmpty()
+     */
+    public boolean isEmpty() {
+        checkOpen();
+        return size == -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#contains(java.lang.Object)
+     */
+    public boolean contains(E value) {
+        return getIndex(value) >= 0;
+    }
+
+    /**
+     * @see mylistpackage.MyList#clear()
+     */
+    public void clear() {
+        checkOpen();
+        size = -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#remove(java.lang.Object)
+     */
+    public void remove(E value) {
+        int index = getIndex(value);
+        if (index >= 0) {
+            removeAtIndex(index);
+        }
+    }
+
+    /**
+     * Removes every element that satisfies the filter in one pass, copying
+     * the kept records down over the removed ones.
+     *
+     * @see mylistpackage.MyList#removeIf(java.util.function.Predicate)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        checkOpen();
+        if (filter == null) {
+            throw new IllegalArgumentException("filter: null");
+        }
+        int kept = 0;
+        for (int i = 0; i <= size; i++) {
+            if (!filter.test(codec.read(buffer, i * width))) {
+                if (kept != i) {
+                    copyRecord(i, kept);
+                }
+                kept++;
+            }
+        }
+        if (kept == size + 1) {
+            return false;
+        }
+        size = kept - 1;
+        shrinkIfSparse();
+        return true;
+    }
+
+    /**
+     * Creates a comma-separated, bracketed version of the list.
+     *
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return MyLists.toString(this);
+    }
+
+    /**
+     * @see mylistpackage.MyList#writeTo(java.lang.Appendable)
+     */
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        checkOpen();
+        out.append('[');
+        for (int i = 0; i <= size; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(String.valueOf(codec.read(buffer, i * width)));
+        }
+        out.append(']');
+    }
+
+    /**
+     * Frees the off-heap memory. Further operations on the list throw
+     * IllegalStateException; closing twice has no effect.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            free(buffer);
+            buffer = null;
+            size = -1;
+        }
+    }
+
+    /**
+     * Returns the number of elements the list can hold before it grows.
+     *
+     * @return the number of records the buffer has room for
+     */
+    public int getCapacity() {
+        checkOpen();
+        return buffer.capacity() / width;
+    }
+
+    /**
+     * Ensures that the buffer has room for the given number of records; if
+     * not, maps a larger buffer, copies the records over and frees the old
+     * one.
+     *
+     * @param capacity the number of elements the list must be able to hold
+     * @throws IllegalStateException if the list is closed or the records
+     *             would not fit in 2 GB
+     */
+    public void ensureCapacity(int capacity) {
+        checkOpen();
+        int current = buffer.capacity() / width;
+        if (capacity > current) {
+            reallocate(growthPolicy.grow(current, capacity));
+        }
+    }
+
+    /**
+     * Moves the records to a smaller buffer if the growth policy decides
+     * the current one has too much unused room, but never below the initial
+     * capacity.
+     */
+    protected void shrinkIfSparse() {
+        int current = buffer.capacity() / width;
+        int capacity = Math.max(growthPolicy.shrink(current, size + 1), initialCapacity);
+        if (capacity < current) {
+            reallocate(capacity);
+        }
+    }
+
+    /**
+     * Maps a buffer of the given capacity, copies the records over and frees
+     * the old one.
+     *
+     * @param records number of records the new buffer holds > size
+     */
+    private void reallocate(int records) {
+        ByteBuffer replacement = allocate(records);
+        replacement.put(0, buffer, 0, (size + 1) * width);
+        free(buffer);
+        buffer = replacement;
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the value at the given index in the list.
+     *
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @return the value at the given index in the list.
+     */
+    public E get(int index) {
+        checkIndex(index);
+        return codec.read(buffer, index * width);
+    }
+
+    /**
+     * Checks that the list is open and the index is a legal index of the
+     * current list.
+     *
+     * @param index
+     * @throws IllegalStateException if the list is closed
+     * @throws IndexOutOfBoundsException if the given index is not a legal index of the current list
+     */
+    protected void checkIndex(int index) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+    }
+
+    /**
+     * Checks that the list has not been closed.
+     *
+     * @throws IllegalStateException if the list is closed
+     */
+    protected void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("closed");
+        }
+    }
+
+    /**
+     * Copies the record at one index over the record at another.
+     *
+     * @param from index of the record to copy
+     * @param to index of the record to overwrite
+     */
+    protected void copyRecord(int from, int to) {
+        buffer.put(to * width, buffer, from * width, width);
+    }
+
+    /**
+     * Moves a run of records within the buffer; the runs may overlap.
+     *
+     * @param from index of the first record to move
+     * @param to index the first record moves to
+     * @param count number of records
+     */
+    protected void moveRecords(int from, int to, int count) {
+        buffer.put(to * width, buffer, from * width, count * width);
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Allocates a buffer for the given number of records.
+     *
+     * @param records number of records
+     * @return a direct buffer in native byte order
+     * @throws IllegalStateException if the records would not fit in 2 GB
+     */
+    private ByteBuffer allocate(int records) {
+        long bytes = (long) records * width;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("capacity: " + records + " records of " + width
+                                            + " bytes");
+        }
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Frees a direct buffer right away if the VM allows it; otherwise it is
+     * freed once it becomes unreachable.
+     *
+     * @param direct the buffer to free
+     */
+    private static void free(ByteBuffer direct) {
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, direct);
+            } catch (ReflectiveOperationException e) {
+                // the garbage collector frees it instead
+            }
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Returns an iterator for this list.
+     *
+     * @return an iterator for the list.
+     */
+    public Iterator<E> iterator() {
+        checkOpen();
+        return new OffHeapIterator();
+    }
+
+    /**
+     * Represents an iterator for the list that decodes one record at a time.
+     */
+    private class OffHeapIterator implements Iterator<E> {
+
+        /**
+         * current position within the list.
+         */
+        private int position;
+
+        /**
+         * flag that indicates whether list element can be removed.
+         */
+        private boolean removeOK;
+
+        /**
+         * Returns whether there are more list elements.
+         *
+         * @return true if there are more elements left, false otherwise
+         * @see java.util.Iterator#hasNext()
+         */
+        public boolean hasNext() {
+            checkOpen();
+            return position <= size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @throws NoSuchElementException if no more elements.
+         * @return the next element in the iteration.
+         * @see java.util.Iterator#next()
+         */
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E result = get(position);
+            position++;
+            removeOK = true;
+            return result;
+        }
+
+        /**
+         * Removes the last element returned by the iterator.
+         *
+         * @throws IllegalStateException if a call to next has not been made
+         *             before call to remove.
+         * @see java.util.Iterator#remove()
+         */
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            AbstractOffHeapMyList.this.removeAtIndex(position - 1);
+            position--;
+            removeOK = false;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods end
+     *********************************************/
+}
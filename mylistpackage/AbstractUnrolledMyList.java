@@ -0,0 +1,491 @@
+package mylistpackage;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Represents an abstract unrolled linked list: a doubly-linked list of
+ * nodes that each hold a small array of elements. Scans read whole arrays
+ * instead of chasing one pointer per element, so they touch far fewer
+ * cache lines, while inserts and removals still only shift elements within
+ * one node.
+ *
+ * A node that fills up is split in half. A node that falls below half full
+ * after a removal borrows from or merges with its successor, so every node
+ * except the last stays at least half full.
+ *
+ * @param <E> the type that is in the list
+ */
+public abstract class AbstractUnrolledMyList<E> implements MyList<E> {
+
+    /**
+     * default number of elements per node.
+     */
+    protected static final int DEFAULT_NODE_CAPACITY = 32;
+
+    /**
+     * first node, or null if the list is empty
+     */
+    protected UnrolledNode head;
+
+    /**
+     * last node, or null if the list is empty
+     */
+    protected UnrolledNode tail;
+
+    /**
+     * index of the last element in the list
+     */
+    protected int size;
+
+    /**
+     * number of elements each node can hold
+     */
+    protected final int nodeCapacity;
+
+    /**
+     * Constructs an empty list whose nodes hold the given number of elements.
+     *
+     * @param nodeCapacity >= 4
+     * @throws IllegalArgumentException if nodeCapacity < 4
+     */
+    protected AbstractUnrolledMyList(int nodeCapacity) {
+        if (nodeCapacity < 4) {
+            throw new IllegalArgumentException("nodeCapacity: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+        head = null;
+        tail = null;
+        size = -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#getSize()
+     */
+    public int getSize() {
+        return size + 1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#isEmpty()
+     */
+    public boolean isEmpty() {
+        return size == -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#contains(java.lang.Object)
+     */
+    public boolean contains(E value) {
+        return getIndex(value) >= 0;
+    }
+
+    /**
+     * @see mylistpackage.MyList#clear()
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = -1;
+    }
+
+    /**
+     * @see mylistpackage.MyList#remove(java.lang.Object)
+     */
+    public void remove(E value) {
+        int index = getIndex(value);
+        if (index >= 0) {
+            removeAtIndex(index);
+        }
+    }
+
+    /**
+     * Removes every element that satisfies the filter in one traversal. Kept
+     * elements are packed forward into full nodes as they are read, and
+     * the nodes left over at the end are dropped. The packing moves values
+     * even when nothing is removed, so the list is always cut after the
+     * last packed node.
+     *
+     * @see mylistpackage.MyList#removeIf(java.util.function.Predicate)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("filter: null");
+        }
+        UnrolledNode target = head;
+        int targetCount = 0;
+        int kept = 0;
+        for (UnrolledNode node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                Object value = node.items[i];
+                if (!filter.test((E) value)) {
+                    if (targetCount == nodeCapacity) {
+                        target.count = targetCount;
+                        target = target.next;
+                        targetCount = 0;
+                    }
+                    target.items[targetCount] = value;
+                    targetCount++;
+                    kept++;
+                }
+            }
+        }
+        boolean removed = kept != size + 1;
+        if (kept == 0) {
+            clear();
+            return removed;
+        }
+        if (targetCount < target.count) {
+            Arrays.fill(target.items, targetCount, target.count, null);
+        }
+        target.count = targetCount;
+        target.next = null;
+        tail = target;
+        size = kept - 1;
+        return removed;
+    }
+
+    /**
+     * Creates a comma-separated, bracketed version of the list.
+     *
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return MyLists.toString(this);
+    }
+
+    /**
+     * @see mylistpackage.MyList#writeTo(java.lang.Appendable)
+     */
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        out.append('[');
+        for (UnrolledNode node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (node != head || i > 0) {
+                    out.append(", ");
+                }
+                out.append(String.valueOf(node.items[i]));
+            }
+        }
+        out.append(']');
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the value at the given index in the list.
+     *
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @return the value at the given index in the list.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        UnrolledNode node = head;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        return (E) node.items[index];
+    }
+
+    /**
+     * Removes value at the given index, shifting subsequent values up.
+     *
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        UnrolledNode node = head;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        removeFrom(node, index);
+    }
+
+    /**
+     * Checks if the index is a legal index of the current list.
+     *
+     * @param index
+     * @throws IndexOutOfBoundsException if the given index is not a legal index of the current list
+     */
+    protected void checkIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Appends a new empty node at the end of the list.
+     *
+     * @return the new node
+     */
+    protected UnrolledNode appendNode() {
+        UnrolledNode node = new UnrolledNode(nodeCapacity);
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+            node.prev = tail;
+        }
+        tail = node;
+        return node;
+    }
+
+    /**
+     * Appends a value after the last element, starting a new tail node if
+     * the current one is full. Never splits a node, so values appended in
+     * a row fill their nodes completely.
+     *
+     * @param value the value to append
+     */
+    protected void append(E value) {
+        UnrolledNode node = tail;
+        if (node == null || node.count == nodeCapacity) {
+            node = appendNode();
+        }
+        node.items[node.count] = value;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Inserts a value at a position within a node, splitting the node in
+     * half first if it is full.
+     *
+     * @param node the node to insert into
+     * @param offset 0 <= offset <= node.count
+     * @param value the value to insert
+     */
+    protected void insertInto(UnrolledNode node, int offset, E value) {
+        if (node.count == nodeCapacity) {
+            int half = nodeCapacity / 2;
+            UnrolledNode right = new UnrolledNode(nodeCapacity);
+            System.arraycopy(node.items, half, right.items, 0, node.count - half);
+            Arrays.fill(node.items, half, node.count, null);
+            right.count = node.count - half;
+            node.count = half;
+            right.next = node.next;
+            right.prev = node;
+            if (node.next == null) {
+                tail = right;
+            } else {
+                node.next.prev = right;
+            }
+            node.next = right;
+            if (offset > half) {
+                node = right;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = value;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Removes the value at a position within a node, then borrows from or
+     * merges with the successor if the node is less than half full.
+     *
+     * @param node the node to remove from
+     * @param offset 0 <= offset < node.count
+     */
+    protected void removeFrom(UnrolledNode node, int offset) {
+        node.count--;
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset);
+        node.items[node.count] = null;
+        size--;
+
+        int half = nodeCapacity / 2;
+        UnrolledNode next = node.next;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < half && next != null) {
+            if (node.count + next.count <= nodeCapacity) {
+                System.arraycopy(next.items, 0, node.items, node.count, next.count);
+                node.count += next.count;
+                unlink(next);
+            } else {
+                int moved = half - node.count;
+                System.arraycopy(next.items, 0, node.items, node.count, moved);
+                node.count += moved;
+                next.count -= moved;
+                System.arraycopy(next.items, moved, next.items, 0, next.count);
+                Arrays.fill(next.items, next.count, next.count + moved, null);
+            }
+        }
+    }
+
+    /**
+     * Unlinks a node from the list. The node keeps its own links, so an
+     * iterator standing on it can still move on to its successor.
+     *
+     * @param node the node to unlink
+     */
+    private void unlink(UnrolledNode node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Represents a list node holding up to nodeCapacity elements.
+     */
+    protected static class UnrolledNode {
+
+        /**
+         * Elements stored in this node; only the first count are in use.
+         */
+        public final Object[] items;
+
+        /**
+         * Number of elements in this node.
+         */
+        public int count;
+
+        /**
+         * Link to previous node in the list.
+         */
+        public UnrolledNode prev;
+
+        /**
+         * Link to next node in the list.
+         */
+        public UnrolledNode next;
+
+        /**
+         * Constructs an empty node.
+         *
+         * @param capacity the number of elements the node can hold
+         */
+        public UnrolledNode(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    /**
+     * Returns an iterator for this list.
+     *
+     * @return an iterator for the list.
+     */
+    public Iterator<E> iterator() {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Represents an iterator that walks the element arrays node by node.
+     */
+    private class UnrolledIterator implements Iterator<E> {
+
+        /**
+         * Node of the next value to return.
+         */
+        private UnrolledNode node;
+
+        /**
+         * Offset of the next value to return within node.
+         */
+        private int offset;
+
+        /**
+         * Index of the next value to return.
+         */
+        private int position;
+
+        /**
+         * flag that indicates whether list element can be removed.
+         */
+        private boolean removeOK;
+
+        /**
+         * Constructs an iterator for the given list.
+         */
+        public UnrolledIterator() {
+            node = head;
+            offset = 0;
+            position = 0;
+            removeOK = false;
+        }
+
+        /**
+         * Returns whether there are more list elements.
+         *
+         * @return true if there are more elements left, false otherwise
+         * @see java.util.Iterator#hasNext()
+         */
+        public boolean hasNext() {
+            return position <= size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @throws NoSuchElementException if no more elements.
+         * @return the next element in the iteration.
+         * @see java.util.Iterator#next()
+         */
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (offset >= node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            E result = (E) node.items[offset];
+            offset++;
+            position++;
+            removeOK = true;
+            return result;
+        }
+
+        /**
+         * Removes the last element returned by the iterator.
+         *
+         * @throws IllegalStateException if a call to next has not been made
+         *             before call to remove.
+         * @see java.util.Iterator#remove()
+         */
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            offset--;
+            position--;
+            removeFrom(node, offset);
+            removeOK = false;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods end
+     *********************************************/
+}
@@ -0,0 +1,122 @@
+package mylistpackage;
+
+/**
+ * Represents a sorted arena-backed node list.
+ *
+ * @param <E> is of any object type
+ */
+public class ArenaListSorted<E extends Comparable<? super E>> extends AbstractArenaMyList<E>
+        implements SortedMyList<E> {
+
+    /**
+     * Constructs an empty list of default capacity.
+     */
+    public ArenaListSorted() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of nodes.
+     *
+     * @param capacity > 0
+     * @throws IllegalArgumentException if capacity <= 0
+     */
+    public ArenaListSorted(int capacity) {
+        this(capacity, AbstractArrayMyList.DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of nodes that
+     * grows as the given policy decides.
+     *
+     * @param capacity > 0
+     * @param growthPolicy decides how the arena grows
+     * @throws IllegalArgumentException if capacity <= 0 or growthPolicy is null
+     */
+    public ArenaListSorted(int capacity, GrowthPolicy growthPolicy) {
+        super(capacity, growthPolicy);
+    }
+
+    /**
+     * Inserts the value in front of the first value that is not smaller. A
+     * value larger than the last one is appended without a walk, so filling
+     * the list in ascending order costs O(1) per insert.
+     *
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(E value) {
+        if (tail != NIL && compare(tail, value) < 0) {
+            linkAfter(tail, value);
+            return;
+        }
+        int previous = NIL;
+        int slot = head;
+        while (slot != NIL && compare(slot, value) < 0) {
+            previous = slot;
+            slot = next[slot];
+        }
+        linkAfter(previous, value);
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value, stopping at the first larger value.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    @Override
+    public int getIndex(E value) {
+        int index = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            int comparison = compare(slot, value);
+            if (comparison > 0) {
+                return -1;
+            }
+            if (comparison == 0 && data[slot].equals(value)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     *
+     * @param index 0 <= index <= size
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    public void set(int index, E value) {
+        checkIndex(index);
+        int previous = index == 0 ? NIL : slotAt(index - 1);
+        int slot = previous == NIL ? head : next[previous];
+        if ((previous != NIL && compare(previous, value) > 0)
+                || (next[slot] != NIL && compare(next[slot], value) < 0)) {
+            throw new IllegalArgumentException();
+        }
+        data[slot] = value;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Compares the value in a slot with a value.
+     *
+     * @param slot the slot to compare
+     * @param value assigned
+     * @return the result of data[slot].compareTo(value)
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(int slot, E value) {
+        return ((E) data[slot]).compareTo(value);
+    }
+}
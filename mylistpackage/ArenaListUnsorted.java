@@ -0,0 +1,67 @@
+package mylistpackage;
+
+/**
+ * Represents an unsorted arena-backed node list. Values are appended after
+ * the last node.
+ *
+ * @param <E> is of any object type
+ */
+public class ArenaListUnsorted<E> extends AbstractArenaMyList<E> {
+
+    /**
+     * Constructs an empty list of default capacity.
+     */
+    public ArenaListUnsorted() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of nodes.
+     *
+     * @param capacity > 0
+     * @throws IllegalArgumentException if capacity <= 0
+     */
+    public ArenaListUnsorted(int capacity) {
+        this(capacity, AbstractArrayMyList.DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of nodes that
+     * grows as the given policy decides.
+     *
+     * @param capacity > 0
+     * @param growthPolicy decides how the arena grows
+     * @throws IllegalArgumentException if capacity <= 0 or growthPolicy is null
+     */
+    public ArenaListUnsorted(int capacity, GrowthPolicy growthPolicy) {
+        super(capacity, growthPolicy);
+    }
+
+    /**
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(E value) {
+        linkAfter(tail, value);
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Replaces the value at the given index with the given value.
+     *
+     * @param index 0 <= index <= size
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void set(int index, E value) {
+        checkIndex(index);
+        data[slotAt(index)] = value;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+}
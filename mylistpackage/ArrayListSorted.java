@@ -4,6 +4,18 @@
  */
 package mylistpackage;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
 /**
  * Represents basic sorted node-based list.
  * 
@@ -11,7 +23,24 @@ package mylistpackage;
  * @version Spring 2017
  * @param <E> is of any object type
  */
-public class ArrayListSorted<E extends Comparable<? super E>> extends AbstractArrayMyList<E> {
+public class ArrayListSorted<E extends Comparable<? super E>> extends AbstractArrayMyList<E>
+		implements SortedMyList<E> {
+
+	/**
+	 * unsorted values inserted since the last flush, or null if the write
+	 * buffer is off
+	 */
+	private E[] writeBuffer;
+
+	/**
+	 * number of values in the write buffer
+	 */
+	private int buffered;
+
+	/**
+	 * number of changes made to the list, so views can detect them
+	 */
+	private int modCount;
 
 	/**
 	 * Constructs an empty list of default capacity.
@@ -28,29 +57,253 @@ public class ArrayListSorted<E extends Comparable<? super E>> extends AbstractAr
 	 * @throws IllegalArgumentException
 	 *             if capacity <= 0
 	 */
-	@SuppressWarnings("unchecked")
 	public ArrayListSorted(int capacity) {
+		this(capacity, DEFAULT_GROWTH_POLICY);
+	}
+
+	/**
+	 * Constructs an empty list of the given capacity that grows and shrinks
+	 * as the given policy decides.
+	 * 
+	 * @param capacity
+	 *            > 0
+	 * @param growthPolicy
+	 *            decides how the list grows and shrinks
+	 * @throws IllegalArgumentException
+	 *             if capacity <= 0 or growthPolicy is null
+	 */
+	@SuppressWarnings("unchecked")
+	public ArrayListSorted(int capacity, GrowthPolicy growthPolicy) {
 		if (capacity <= 0) {
 			throw new IllegalArgumentException("capacity: " + capacity);
 		}
+		if (growthPolicy == null) {
+			throw new IllegalArgumentException("growthPolicy: null");
+		}
 		elementData = (E[]) new Comparable[capacity];
 		size = -1;
+		this.growthPolicy = growthPolicy;
+		initialCapacity = capacity;
+	}
+
+	/**
+	 * Loads a list from a snapshot written by writeSnapshot. Records written
+	 * by a sorted list are adopted in file order without any comparisons;
+	 * other snapshots are sorted once after loading.
+	 * 
+	 * @param file
+	 *            the snapshot file
+	 * @param codec
+	 *            converts the records to values
+	 * @return a list holding the values of the snapshot
+	 * @throws IOException
+	 *             if the file cannot be read or is not a snapshot written with
+	 *             a codec of this width
+	 * @throws IllegalArgumentException
+	 *             if codec is null
+	 */
+	public static <E extends Comparable<? super E>> ArrayListSorted<E> readSnapshot(Path file,
+			RecordCodec<E> codec) throws IOException {
+		ArrayListSorted<E> list = new ArrayListSorted<E>();
+		if (!list.readRecords(file, codec))
+			Arrays.sort(list.elementData, 0, list.size + 1);
+		return list;
+	}
+
+	/**
+	 * Builds a list from unsorted values. The array is copied once, sorted
+	 * with Arrays.parallelSort, which splits the work across the common
+	 * fork-join pool, and adopted as elementData, so the build costs
+	 * O(n log n) with no per-value inserts.
+	 * 
+	 * @param values
+	 *            the values, in any order
+	 * @param distinct
+	 *            whether to keep only one of each run of values that
+	 *            compare equal
+	 * @return a list holding the values
+	 * @throws IllegalArgumentException
+	 *             if values is null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Comparable<? super E>> ArrayListSorted<E> build(E[] values,
+			boolean distinct) {
+		if (values == null)
+			throw new IllegalArgumentException("values: null");
+		return adopt((E[]) Arrays.copyOf(values, values.length, Comparable[].class), distinct);
+	}
+
+	/**
+	 * Builds a list from the values of a collection, copying them once with
+	 * toArray.
+	 * 
+	 * @param values
+	 *            the values, in any order
+	 * @param distinct
+	 *            whether to keep only one of each run of values that
+	 *            compare equal
+	 * @return a list holding the values
+	 * @throws IllegalArgumentException
+	 *             if values is null
+	 * @see #build(Comparable[], boolean)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Comparable<? super E>> ArrayListSorted<E> build(
+			Collection<? extends E> values, boolean distinct) {
+		if (values == null)
+			throw new IllegalArgumentException("values: null");
+		return adopt((E[]) values.toArray(new Comparable[0]), distinct);
+	}
+
+	/**
+	 * Builds a list from the values of a stream. A parallel stream collects
+	 * its values in parallel as well.
+	 * 
+	 * @param values
+	 *            the values, in any order
+	 * @param distinct
+	 *            whether to keep only one of each run of values that
+	 *            compare equal
+	 * @return a list holding the values
+	 * @throws IllegalArgumentException
+	 *             if values is null
+	 * @see #build(Comparable[], boolean)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Comparable<? super E>> ArrayListSorted<E> build(
+			Stream<? extends E> values, boolean distinct) {
+		if (values == null)
+			throw new IllegalArgumentException("values: null");
+		return adopt((E[]) values.toArray(Comparable[]::new), distinct);
+	}
+
+	/**
+	 * Sorts an array the caller no longer uses, optionally removes
+	 * duplicates in place, and makes it the elementData of a new list.
+	 * 
+	 * @param data
+	 *            the values; sorted and kept by the list
+	 * @param distinct
+	 *            whether to remove duplicates
+	 * @return a list holding the values
+	 */
+	private static <E extends Comparable<? super E>> ArrayListSorted<E> adopt(E[] data,
+			boolean distinct) {
+		ArrayListSorted<E> list = new ArrayListSorted<E>();
+		if (data.length == 0)
+			return list;
+		Arrays.parallelSort(data);
+		int count = data.length;
+		if (distinct) {
+			count = 1;
+			for (int i = 1; i < data.length; i++)
+				if (data[i].compareTo(data[count - 1]) != 0)
+					data[count++] = data[i];
+			Arrays.fill(data, count, data.length, null);
+		}
+		list.elementData = data;
+		list.size = count - 1;
+		list.shrinkIfSparse();
+		return list;
+	}
+
+	/**
+	 * Writes the list to a snapshot marked as sorted, so readSnapshot can
+	 * adopt it without sorting.
+	 * 
+	 * @see AbstractArrayMyList#writeSnapshot(Path, RecordCodec)
+	 */
+	@Override
+	public void writeSnapshot(Path file, RecordCodec<? super E> codec) throws IOException {
+		flushWriteBuffer();
+		writeRecords(file, codec, true);
+	}
+
+	/**
+	 * Returns an immutable copy of the list laid out for fast lookups. The
+	 * copy takes O(n) time and does not change when this list does; it
+	 * suits read-mostly reference data that is searched far more often
+	 * than it is rebuilt.
+	 * 
+	 * @return a frozen copy of the list
+	 * @see FrozenSortedList
+	 */
+	public FrozenSortedList<E> freeze() {
+		flushWriteBuffer();
+		return new FrozenSortedList<E>(elementData, size + 1);
 	}
 
+	/**
+	 * Turns the write buffer on or off. While it is on, insert appends to a
+	 * small unsorted buffer, which is sorted and merged into the list once
+	 * it holds threshold values, or before any operation that needs the
+	 * values in order. Inserts then cost about as much as an append instead
+	 * of an O(n) shift. contains searches the buffer without flushing it.
+	 * 
+	 * @param threshold
+	 *            the number of values to buffer before merging, or 0 to turn
+	 *            the buffer off
+	 * @throws IllegalArgumentException
+	 *             if threshold < 0
+	 */
 	@SuppressWarnings("unchecked")
+	public void setWriteBuffer(int threshold) {
+		if (threshold < 0) {
+			throw new IllegalArgumentException("threshold: " + threshold);
+		}
+		flushWriteBuffer();
+		writeBuffer = threshold == 0 ? null : (E[]) new Comparable[threshold];
+	}
+
+	/**
+	 * Sorts the write buffer and merges it into the list.
+	 */
+	public void flushWriteBuffer() {
+		if (buffered > 0) {
+			Arrays.sort(writeBuffer, 0, buffered);
+			merge(writeBuffer, buffered);
+			Arrays.fill(writeBuffer, 0, buffered, null);
+			buffered = 0;
+		}
+	}
+
+	@Override
+	public int getSize() {
+		return size + 1 + buffered;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == -1 && buffered == 0;
+	}
+
 	@Override
 	public void clear() {
-		elementData = (E[]) new Comparable[DEFAULT_CAPACITY];
-		size = -1;
+		modCount++;
+		super.clear();
+		if (buffered > 0) {
+			Arrays.fill(writeBuffer, 0, buffered, null);
+			buffered = 0;
+		}
 	}
 
 	@Override
 	public boolean contains(E value) {
-		return getIndex(value) != -1;
+		for (int i = 0; i < buffered; i++)
+			if (value.equals(writeBuffer[i]))
+				return true;
+		return getIndex(value, false) != -1;
 	}
 
 	@Override
 	public void insert(E value) {
+		modCount++;
+		if (writeBuffer != null) {
+			writeBuffer[buffered++] = value;
+			if (buffered == writeBuffer.length)
+				flushWriteBuffer();
+			return;
+		}
 		ensureCapacity(size + 2);
 		int index = getIndex(value, true);
 		for (int i = size + 1; i > index; i--)
@@ -59,6 +312,140 @@ public class ArrayListSorted<E extends Comparable<? super E>> extends AbstractAr
 		size++;
 	}
 
+	/**
+	 * Appends a value that is not smaller than the last one, without
+	 * searching. Used to fill lists whose values arrive in order.
+	 *
+	 * @param value
+	 *            a value not smaller than any value in the list
+	 */
+	void append(E value) {
+		modCount++;
+		ensureCapacity(size + 2);
+		size++;
+		elementData[size] = value;
+	}
+
+	/**
+	 * Inserts every value of an array. The values are sorted and then merged
+	 * into the list in one pass, so inserting k values into a list of n
+	 * costs O(k log k + n) instead of O(k * n).
+	 * 
+	 * @param values
+	 *            the values to insert
+	 */
+	public void insertAll(E[] values) {
+		E[] batch = Arrays.copyOf(values, values.length);
+		Arrays.sort(batch);
+		merge(batch, batch.length);
+	}
+
+	/**
+	 * Inserts every value of an Iterable, sorting and merging them in one
+	 * pass.
+	 * 
+	 * @param values
+	 *            the values to insert
+	 * @see #insertAll(Comparable[])
+	 */
+	@SuppressWarnings("unchecked")
+	public void insertAll(Iterable<? extends E> values) {
+		E[] batch = (E[]) new Comparable[16];
+		int count = 0;
+		for (E value : values) {
+			if (count == batch.length)
+				batch = Arrays.copyOf(batch, count * 2);
+			batch[count++] = value;
+		}
+		Arrays.sort(batch, 0, count);
+		merge(batch, count);
+	}
+
+	/**
+	 * Inserts every value of another list, sorting and merging them in one
+	 * pass. Values from another ArrayListSorted are already in order and are
+	 * merged without sorting.
+	 * 
+	 * @param values
+	 *            the values to insert
+	 * @see #insertAll(Comparable[])
+	 */
+	@SuppressWarnings("unchecked")
+	public void insertAll(MyList<? extends E> values) {
+		E[] batch = (E[]) new Comparable[values.getSize()];
+		int count = 0;
+		Iterator<? extends E> iterator = values.iterator();
+		while (iterator.hasNext())
+			batch[count++] = iterator.next();
+		if (!(values instanceof ArrayListSorted))
+			Arrays.sort(batch);
+		merge(batch, count);
+	}
+
+	/**
+	 * Merges sorted values into the list, filling elementData from the back
+	 * so every element moves at most once. The run of list elements that
+	 * belongs above each value is found by binary search and moved as one
+	 * block.
+	 * 
+	 * @param batch
+	 *            sorted values
+	 * @param count
+	 *            the number of values to take from the front of batch
+	 */
+	private void merge(E[] batch, int count) {
+		modCount++;
+		ensureCapacity(size + 1 + count);
+		int from = size;
+		int next = count - 1;
+		int to = size + count;
+		while (next >= 0) {
+			int split = firstGreater(batch[next], from);
+			int block = from - split + 1;
+			if (block > 0) {
+				to -= block;
+				System.arraycopy(elementData, split, elementData, to + 1, block);
+				from = split - 1;
+			}
+			elementData[to--] = batch[next--];
+		}
+		size += count;
+	}
+
+	/**
+	 * Returns the index of the first element greater than value among the
+	 * first last + 1 elements. Gallops backwards from last before the binary
+	 * search, so the cost is logarithmic in the distance from last rather
+	 * than in the size of the list.
+	 * 
+	 * @param value
+	 *            the value to compare against
+	 * @param last
+	 *            the index of the last element to consider
+	 * @return the index of the first greater element, or last + 1 if there
+	 *         is none
+	 */
+	private int firstGreater(E value, int last) {
+		int lowerBound = 0;
+		int upperBound = last + 1;
+		for (int step = 1; step > 0 && step <= last + 1; step *= 2) {
+			int probe = last + 1 - step;
+			if (elementData[probe].compareTo(value) <= 0) {
+				lowerBound = probe + 1;
+				break;
+			}
+			upperBound = probe;
+		}
+		while (lowerBound < upperBound) {
+			int midPoint = (lowerBound + upperBound) >>> 1;
+			if (elementData[midPoint].compareTo(value) > 0)
+				upperBound = midPoint;
+			else
+				lowerBound = midPoint + 1;
+		}
+		return lowerBound;
+	}
+
 	@Override
 	public void remove(E value) {
 
@@ -67,14 +454,28 @@ public class ArrayListSorted<E extends Comparable<? super E>> extends AbstractAr
 			removeAtIndex(index);
 	}
 
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		flushWriteBuffer();
+		modCount++;
+		return super.removeIf(filter);
+	}
+
 	/*********************************************
 	 * Index list methods follow
 	 *********************************************/
 
 	@Override
 	public int getIndex(E value) {
+		flushWriteBuffer();
 		return getIndex(value, false);
 	}
+
+	@Override
+	public E get(int index) {
+		flushWriteBuffer();
+		return super.get(index);
+	}
 	
 	/**
 	 * Checks this ArrayListSorted for the specified value. If this method is
@@ -121,13 +522,15 @@ public class ArrayListSorted<E extends Comparable<? super E>> extends AbstractAr
      */
 	@Override
 	public void removeAtIndex(int index) {
+		flushWriteBuffer();
 		if (index < 0 || index > size)
 			throw new IndexOutOfBoundsException();
+		modCount++;
 		for (int i = index; i < size; i++)
 			elementData[i] = elementData[i + 1];
 		elementData[size] = null;
 		size--;
-
+		shrinkIfSparse();
 	}
 
 	/**
@@ -140,12 +543,13 @@ public class ArrayListSorted<E extends Comparable<? super E>> extends AbstractAr
      */
 	@Override
 	public void set(int index, E value) {
+		flushWriteBuffer();
 		int validIndex = getIndex(value, true);
-		System.out.println(validIndex);
 		if (index < 0 || index > size) 
 			throw new IndexOutOfBoundsException();
 		if (index != validIndex) 
 			throw new IllegalArgumentException();
+		modCount++;
 		elementData[index] = value;
 	}
 
@@ -153,4 +557,324 @@ public class ArrayListSorted<E extends Comparable<? super E>> extends AbstractAr
 	 * Index list methods end
 	 *********************************************/
 
+	/*********************************************
+	 * Range methods follow
+	 *********************************************/
+
+	/**
+	 * Returns the index of the first value that is not smaller than the
+	 * given value.
+	 * 
+	 * @param value
+	 *            the value to search for
+	 * @return 0 <= index <= getSize(); getSize() if every value is smaller
+	 */
+	public int lowerBound(E value) {
+		flushWriteBuffer();
+		return bound(value, false);
+	}
+
+	/**
+	 * Returns the index of the first value that is greater than the given
+	 * value.
+	 * 
+	 * @param value
+	 *            the value to search for
+	 * @return 0 <= index <= getSize(); getSize() if no value is greater
+	 */
+	public int upperBound(E value) {
+		flushWriteBuffer();
+		return bound(value, true);
+	}
+
+	/**
+	 * Returns the number of values v with lo <= v < hi, in O(log n).
+	 * 
+	 * @param lo
+	 *            the smallest value counted
+	 * @param hi
+	 *            the first value not counted
+	 * @return the number of values in [lo, hi)
+	 * @throws IllegalArgumentException
+	 *             if lo > hi
+	 */
+	public int countInRange(E lo, E hi) {
+		checkRange(lo, hi);
+		flushWriteBuffer();
+		return bound(hi, false) - bound(lo, false);
+	}
+
+	/**
+	 * Removes every value v with lo <= v < hi, moving the values above the
+	 * range down with a single System.arraycopy.
+	 * 
+	 * @param lo
+	 *            the smallest value removed
+	 * @param hi
+	 *            the first value kept
+	 * @return the number of values removed
+	 * @throws IllegalArgumentException
+	 *             if lo > hi
+	 */
+	public int removeRange(E lo, E hi) {
+		checkRange(lo, hi);
+		flushWriteBuffer();
+		int from = bound(lo, false);
+		int to = bound(hi, false);
+		int removed = to - from;
+		if (removed > 0) {
+			modCount++;
+			System.arraycopy(elementData, to, elementData, from, size + 1 - to);
+			Arrays.fill(elementData, size + 1 - removed, size + 1, null);
+			size -= removed;
+			shrinkIfSparse();
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns a read-only view of the values from fromIndex up to but not
+	 * including toIndex. The view shares this list's array, so creating it
+	 * copies nothing; subList(lowerBound(lo), lowerBound(hi)) is the view of
+	 * the values in [lo, hi). Any change to this list, including set,
+	 * invalidates the view.
+	 * 
+	 * @param fromIndex
+	 *            the index of the first value in the view
+	 * @param toIndex
+	 *            the index after the last value in the view
+	 * @return a view of the range
+	 * @throws IndexOutOfBoundsException
+	 *             if fromIndex < 0, toIndex > getSize() or fromIndex > toIndex
+	 */
+	public SubList subList(int fromIndex, int toIndex) {
+		flushWriteBuffer();
+		if (fromIndex < 0 || toIndex > size + 1 || fromIndex > toIndex)
+			throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: "
+					+ toIndex);
+		return new SubList(fromIndex, toIndex);
+	}
+
+	/**
+	 * Returns the index of the first value that is not smaller than value, or
+	 * with after set, the first value that is greater.
+	 * 
+	 * @param value
+	 *            the value to search for
+	 * @param after
+	 *            whether values equal to value come before the index
+	 * @return 0 <= index <= size + 1
+	 */
+	private int bound(E value, boolean after) {
+		int lowerBound = 0;
+		int upperBound = size + 1;
+		while (lowerBound < upperBound) {
+			int midPoint = (lowerBound + upperBound) >>> 1;
+			int comparison = elementData[midPoint].compareTo(value);
+			if (comparison < 0 || (after && comparison == 0))
+				lowerBound = midPoint + 1;
+			else
+				upperBound = midPoint;
+		}
+		return lowerBound;
+	}
+
+	/**
+	 * Checks that lo is not greater than hi.
+	 * 
+	 * @param lo
+	 *            the low end of the range
+	 * @param hi
+	 *            the high end of the range
+	 * @throws IllegalArgumentException
+	 *             if lo > hi
+	 */
+	private void checkRange(E lo, E hi) {
+		if (lo.compareTo(hi) > 0)
+			throw new IllegalArgumentException("lo: " + lo + " > hi: " + hi);
+	}
+
+	/**
+	 * Represents a read-only view of a range of indexes of the list.
+	 */
+	public class SubList implements Iterable<E> {
+
+		/**
+		 * index of the first value in the view
+		 */
+		private final int from;
+
+		/**
+		 * index after the last value in the view
+		 */
+		private final int to;
+
+		/**
+		 * modCount of the list when the view was created, to detect changes
+		 */
+		private final int expectedModCount;
+
+		/**
+		 * Constructs a view of [from, to).
+		 * 
+		 * @param from
+		 *            index of the first value
+		 * @param to
+		 *            index after the last value
+		 */
+		private SubList(int from, int to) {
+			this.from = from;
+			this.to = to;
+			this.expectedModCount = modCount;
+		}
+
+		/**
+		 * Returns the number of values in the view.
+		 * 
+		 * @return the number of values in the view >= 0
+		 */
+		public int getSize() {
+			checkUnchanged();
+			return to - from;
+		}
+
+		/**
+		 * Returns whether the view is empty.
+		 * 
+		 * @return true if the view is empty, false otherwise
+		 */
+		public boolean isEmpty() {
+			return getSize() == 0;
+		}
+
+		/**
+		 * Returns the value at the given index of the view.
+		 * 
+		 * @param index
+		 *            0 <= index < getSize()
+		 * @return the value at from + index in the list
+		 * @throws IndexOutOfBoundsException
+		 *             if index is outside of the view
+		 */
+		public E get(int index) {
+			checkUnchanged();
+			if (index < 0 || index >= to - from)
+				throw new IndexOutOfBoundsException("index: " + index);
+			return elementData[from + index];
+		}
+
+		/**
+		 * Returns whether the view holds value.
+		 * 
+		 * @param value
+		 *            the value to search for
+		 * @return true if value is in the view, false otherwise
+		 */
+		public boolean contains(E value) {
+			checkUnchanged();
+			for (int i = Math.max(bound(value, false), from); i < to
+					&& elementData[i].compareTo(value) == 0; i++)
+				if (elementData[i].equals(value))
+					return true;
+			return false;
+		}
+
+		/**
+		 * Returns an iterator over the values of the view. The iterator does
+		 * not support remove.
+		 * 
+		 * @return an iterator over the view
+		 */
+		@Override
+		public Iterator<E> iterator() {
+			checkUnchanged();
+			return new Iterator<E>() {
+				private int position = from;
+
+				@Override
+				public boolean hasNext() {
+					return position < to;
+				}
+
+				@Override
+				public E next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					checkUnchanged();
+					return elementData[position++];
+				}
+			};
+		}
+
+		/**
+		 * Creates a comma-separated, bracketed version of the view.
+		 * 
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return MyLists.toString(this::writeTo);
+		}
+
+		/**
+		 * Writes the view to out in the same format as toString, one value
+		 * at a time.
+		 * 
+		 * @param out where the values are written
+		 * @throws IOException if out throws one
+		 * @throws ConcurrentModificationException
+		 *             if the list changed since the view was made
+		 */
+		public void writeTo(Appendable out) throws IOException {
+			checkUnchanged();
+			out.append('[');
+			for (int i = from; i < to; i++) {
+				if (i > from)
+					out.append(", ");
+				out.append(String.valueOf(elementData[i]));
+			}
+			out.append(']');
+		}
+
+		/**
+		 * Checks that the list has not changed since the view was made.
+		 * 
+		 * @throws ConcurrentModificationException
+		 *             if the list changed
+		 */
+		private void checkUnchanged() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
+	/*********************************************
+	 * Range methods end
+	 *********************************************/
+
+	@Override
+	public Iterator<E> iterator() {
+		flushWriteBuffer();
+		return super.iterator();
+	}
+
+	/**
+	 * Returns an exactly splitting spliterator that also reports SORTED, so
+	 * stream stages that sort can skip the work.
+	 * 
+	 * @see AbstractArrayMyList#spliterator()
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		flushWriteBuffer();
+		return Spliterators.spliterator(elementData, 0, size + 1,
+				Spliterator.ORDERED | Spliterator.SORTED);
+	}
+
+	@Override
+	public void writeTo(Appendable out) throws IOException {
+		flushWriteBuffer();
+		super.writeTo(out);
+	}
+
 }
@@ -1,5 +1,10 @@
 package mylistpackage;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
 /**
  * Represents basic unsorted array-based list.
  * 
@@ -9,6 +14,22 @@ package mylistpackage;
  */
 public class ArrayListUnsorted<E> extends AbstractArrayMyList<E> {
 
+    /**
+     * marks a free slot of the position index.
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * open-addressed hash table of element positions, at most half full, or
+     * null when the list is not indexed
+     */
+    private int[] positions;
+
+    /**
+     * filter that rules out absent values before a lookup, or null
+     */
+    private BloomFilter bloom;
+
     /**
      * Constructs an empty list of default capacity.
      */
@@ -22,19 +43,154 @@ public class ArrayListUnsorted<E> extends AbstractArrayMyList<E> {
      * @param capacity > 0
      * @throws IllegalArgumentException if capacity <= 0
      */
-    @SuppressWarnings("unchecked")
     public ArrayListUnsorted(int capacity) {
+        this(capacity, DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity that grows and shrinks
+     * as the given policy decides.
+     * 
+     * @param capacity > 0
+     * @param growthPolicy decides how the list grows and shrinks
+     * @throws IllegalArgumentException if capacity <= 0 or growthPolicy is null
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayListUnsorted(int capacity, GrowthPolicy growthPolicy) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("capacity: " + capacity);
         }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("growthPolicy: null");
+        }
         elementData = (E[]) new Object[capacity];
         size = -1;
+        this.growthPolicy = growthPolicy;
+        initialCapacity = capacity;
+    }
+
+    /**
+     * Loads a list from a snapshot written by writeSnapshot, keeping the
+     * order of the records.
+     * 
+     * @param file the snapshot file
+     * @param codec converts the records to values
+     * @return a list holding the values of the snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot
+     *             written with a codec of this width
+     * @throws IllegalArgumentException if codec is null
+     */
+    public static <E> ArrayListUnsorted<E> readSnapshot(Path file, RecordCodec<E> codec)
+            throws IOException {
+        ArrayListUnsorted<E> list = new ArrayListUnsorted<E>();
+        list.readRecords(file, codec);
+        return list;
+    }
+
+    /**
+     * Turns the position index on or off. While it is on, the list keeps a
+     * hash table from each value to its position alongside elementData, so
+     * contains and getIndex take O(1) expected time instead of a scan, at
+     * the cost of about 8 bytes per element and a hash per insert and
+     * removal. Iteration order is unchanged. Values must not change their
+     * hashCode while they are in an indexed list.
+     * 
+     * @param indexed whether to maintain the index
+     */
+    public void setIndexed(boolean indexed) {
+        if (indexed) {
+            rebuildIndex();
+        } else {
+            positions = null;
+        }
+    }
+
+    /**
+     * Returns whether the position index is on.
+     * 
+     * @return true if contains and getIndex use the index, false otherwise
+     */
+    public boolean isIndexed() {
+        return positions != null;
+    }
+
+    /**
+     * Turns the Bloom filter on or off. While it is on, insert adds each
+     * value to a filter sized for the given false-positive rate, and
+     * contains, getIndex and remove return at once for values the filter
+     * rules out. Removals leave stale bits behind, so the filter is rebuilt
+     * on the next lookup once a quarter of its values have been removed or
+     * the list has outgrown it.
+     * 
+     * @param falsePositiveRate 0 < falsePositiveRate < 1, or 0 to turn the
+     *            filter off
+     * @throws IllegalArgumentException if falsePositiveRate is not 0 and not
+     *             between 0 and 1
+     */
+    public void setBloomFilter(double falsePositiveRate) {
+        if (falsePositiveRate == 0) {
+            bloom = null;
+        } else {
+            bloom = new BloomFilter(2 * (size + 1), falsePositiveRate);
+            rebuildBloom();
+        }
+    }
+
+    /**
+     * Returns the Bloom filter, whose counters tell how many lookups it
+     * answered, let through and let through wrongly.
+     * 
+     * @return the filter, or null if it is off
+     */
+    public BloomFilter getBloomFilter() {
+        return bloom;
+    }
+
+    /**
+     * @see mylistpackage.MyList#clear()
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        if (positions != null) {
+            Arrays.fill(positions, EMPTY);
+        }
+        if (bloom != null) {
+            bloom.clear();
+        }
     }
 
     /**
      * @see mylistpackage.MyList#contains(java.lang.Object)
      */
     public boolean contains(E value) {
+        if (bloomRejects(value)) {
+            return false;
+        }
+        boolean found = find(value);
+        if (bloom != null) {
+            bloom.recordLookup(found);
+        }
+        return found;
+    }
+
+    /**
+     * Returns whether value is in the list, using the position index if it
+     * is on.
+     * 
+     * @param value assigned
+     * @return true if value in the list, false otherwise.
+     */
+    private boolean find(E value) {
+        if (positions != null) {
+            int mask = positions.length - 1;
+            for (int slot = home(value); positions[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (elementData[positions[slot]].equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
         for (int i = 0; i <= size; i++) {
             if (elementData[i].equals(value)) {
                 return true;
@@ -50,27 +206,41 @@ public class ArrayListUnsorted<E> extends AbstractArrayMyList<E> {
         ensureCapacity(size + 2);
         size++;
         elementData[size] = value;       
+        if (bloom != null) {
+            bloom.add(value);
+        }
+        if (positions != null) {
+            if (2 * (size + 1) > positions.length) {
+                rebuildIndex();
+            } else {
+                addPosition(size);
+            }
+        }
     }
 
     /**
-     * @see mylistpackage.MyList#clear()
+     * @see mylistpackage.MyList#remove(java.lang.Object)
      */
-    @SuppressWarnings("unchecked")
-	public void clear() {
-    	elementData = (E[]) new Object[DEFAULT_CAPACITY];
-        size = -1;
+    public void remove(E value) {
+        int index = getIndex(value);
+        if (index >= 0) {
+            removeAtIndex(index);
+        }
     }
 
     /**
-     * @see mylistpackage.MyList#remove(java.lang.Object)
+     * @see mylistpackage.AbstractArrayMyList#removeIf(java.util.function.Predicate)
      */
-    public void remove(E value) {
-        int index = getIndex(value);
-        if (size >= 0 && index >= 0) {
-            elementData[index] = elementData[size];
-            elementData[size] = null;
-            size--;
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = super.removeIf(filter);
+        if (removed && positions != null) {
+            rebuildIndex();
         }
+        if (removed && bloom != null) {
+            rebuildBloom();
+        }
+        return removed;
     }
 
     /*********************************************
@@ -84,6 +254,36 @@ public class ArrayListUnsorted<E> extends AbstractArrayMyList<E> {
      * @return index of value if in the list, -1 otherwise.
      */
     public int getIndex(E value) {
+        if (bloomRejects(value)) {
+            return -1;
+        }
+        int index = indexOf(value);
+        if (bloom != null) {
+            bloom.recordLookup(index >= 0);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the first index of value, using the position index if it is
+     * on.
+     * 
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    private int indexOf(E value) {
+        if (positions != null) {
+            // equal values share a cluster; report the first position
+            int first = -1;
+            int mask = positions.length - 1;
+            for (int slot = home(value); positions[slot] != EMPTY; slot = (slot + 1) & mask) {
+                int position = positions[slot];
+                if ((first == -1 || position < first) && elementData[position].equals(value)) {
+                    first = position;
+                }
+            }
+            return first;
+        }
         for (int i = 0; i <= size; i++) {
             if (elementData[i].equals(value)) {
                 return i;
@@ -102,9 +302,19 @@ public class ArrayListUnsorted<E> extends AbstractArrayMyList<E> {
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException();
         }
+        if (positions != null) {
+            removeSlot(slotOf(index));
+            if (index != size) {
+                positions[slotOf(size)] = index;
+            }
+        }
+        if (bloom != null) {
+            bloom.recordRemoval();
+        }
         elementData[index] = elementData[size];
         elementData[size] = null;
         size--;
+        shrinkIfSparse();
     }
 
     /**
@@ -118,7 +328,17 @@ public class ArrayListUnsorted<E> extends AbstractArrayMyList<E> {
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException();
         }
-        elementData[index] = value;
+        if (positions != null) {
+            removeSlot(slotOf(index));
+            elementData[index] = value;
+            addPosition(index);
+        } else {
+            elementData[index] = value;
+        }
+        if (bloom != null) {
+            bloom.recordRemoval();
+            bloom.add(value);
+        }
     }
 
     /**
@@ -138,5 +358,109 @@ public class ArrayListUnsorted<E> extends AbstractArrayMyList<E> {
     /*********************************************
      * Index list methods end
      *********************************************/
+
+    /**
+     * Returns whether the Bloom filter rules value out, first rebuilding it
+     * if it has gone stale.
+     * 
+     * @param value the value to look up
+     * @return true if value is certainly not in the list
+     */
+    private boolean bloomRejects(E value) {
+        if (bloom == null) {
+            return false;
+        }
+        if (bloom.isStale()) {
+            rebuildBloom();
+        }
+        return !bloom.mightContain(value);
+    }
+
+    /**
+     * Empties the Bloom filter, sizes it for twice the current number of
+     * elements and adds every element again.
+     */
+    private void rebuildBloom() {
+        bloom.reset(2 * (size + 1));
+        for (int i = 0; i <= size; i++) {
+            bloom.add(elementData[i]);
+        }
+    }
+
+    /**
+     * Rebuilds the position index with room for twice the current number
+     * of elements.
+     */
+    private void rebuildIndex() {
+        int capacity = 16;
+        while (capacity < 4 * (size + 1)) {
+            capacity <<= 1;
+        }
+        positions = new int[capacity];
+        Arrays.fill(positions, EMPTY);
+        for (int i = 0; i <= size; i++) {
+            addPosition(i);
+        }
+    }
+
+    /**
+     * Returns the slot of the position index where the probe for value
+     * starts.
+     * 
+     * @param value the value to hash
+     * @return 0 <= slot < positions.length
+     */
+    private int home(Object value) {
+        int hash = value.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (positions.length - 1);
+    }
+
+    /**
+     * Adds the position of an element to the index.
+     * 
+     * @param position the index of the element in elementData
+     */
+    private void addPosition(int position) {
+        int mask = positions.length - 1;
+        int slot = home(elementData[position]);
+        while (positions[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        positions[slot] = position;
+    }
+
+    /**
+     * Returns the slot of the index that holds the given position.
+     * 
+     * @param position the index of an element in elementData
+     * @return the slot holding position
+     */
+    private int slotOf(int position) {
+        int mask = positions.length - 1;
+        int slot = home(elementData[position]);
+        while (positions[slot] != position) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties a slot of the index, shifting later entries of the same probe
+     * run back so that no lookup stops early at the hole.
+     * 
+     * @param slot the slot to empty
+     */
+    private void removeSlot(int slot) {
+        int mask = positions.length - 1;
+        int hole = slot;
+        for (int next = (slot + 1) & mask; positions[next] != EMPTY; next = (next + 1) & mask) {
+            int home = home(elementData[positions[next]]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                positions[hole] = positions[next];
+                hole = next;
+            }
+        }
+        positions[hole] = EMPTY;
+    }
     
 }
@@ -0,0 +1,255 @@
+package mylistpackage;
+
+/**
+ * Scans ranges of primitive arrays for the primitive array lists: equality
+ * search, range counts and minimum and maximum. This class runs plain
+ * loops. When the jdk.incubator.vector module is present in the boot
+ * layer, SCANNER is a VectorArrayScanner instead, which runs the same
+ * scans on SIMD registers; the results are the same either way.
+ *
+ * The scalar loops can be forced, for example to compare the two, by
+ * setting the system property mylistpackage.scalarScans to true.
+ *
+ * Every method scans the indexes from (inclusive) up to to (exclusive).
+ */
+class ArrayScanner {
+
+    /**
+     * name of the system property that disables the vector scans
+     */
+    static final String SCALAR_PROPERTY = "mylistpackage.scalarScans";
+
+    /**
+     * the scanner every list uses; chosen once, so the JIT can inline it
+     */
+    static final ArrayScanner SCANNER = create();
+
+    /**
+     * Returns the vector scanner if the Vector API can be loaded, and a
+     * scalar scanner otherwise.
+     *
+     * @return the scanner to use
+     */
+    private static ArrayScanner create() {
+        if (!Boolean.getBoolean(SCALAR_PROPERTY)
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // loaded by name, so this class never links against the module
+                return (ArrayScanner) Class.forName("mylistpackage.VectorArrayScanner")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // fall back to the scalar loops
+            }
+        }
+        return new ArrayScanner();
+    }
+
+    /**
+     * Returns whether this scanner uses the Vector API.
+     *
+     * @return false for the scalar scanner
+     */
+    boolean isVectorized() {
+        return false;
+    }
+
+    /*********************************************
+     * int scans follow
+     *********************************************/
+
+    /**
+     * Returns the first index holding value.
+     *
+     * @param values the array
+     * @param from the first index
+     * @param to the index after the last
+     * @param value the value to find
+     * @return the index, or -1 if no index in the range holds value
+     */
+    int indexOf(int[] values, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the values v with lo <= v < hi.
+     *
+     * @param values the array
+     * @param from the first index
+     * @param to the index after the last
+     * @param lo the smallest value counted
+     * @param hi the first value not counted
+     * @return the number of values in [lo, hi)
+     */
+    int countInRange(int[] values, int from, int to, int lo, int hi) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (lo <= values[i] && values[i] < hi) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest value.
+     *
+     * @param values the array
+     * @param from the first index
+     * @param to the index after the last; to > from
+     * @return the smallest value in the range
+     */
+    int min(int[] values, int from, int to) {
+        int result = values[from];
+        for (int i = from + 1; i < to; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest value.
+     *
+     * @param values the array
+     * @param from the first index
+     * @param to the index after the last; to > from
+     * @return the largest value in the range
+     */
+    int max(int[] values, int from, int to) {
+        int result = values[from];
+        for (int i = from + 1; i < to; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    /*********************************************
+     * int scans end
+     *********************************************/
+
+    /*********************************************
+     * long scans follow
+     *********************************************/
+
+    /**
+     * @see #indexOf(int[], int, int, int)
+     */
+    int indexOf(long[] values, int from, int to, long value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @see #countInRange(int[], int, int, int, int)
+     */
+    int countInRange(long[] values, int from, int to, long lo, long hi) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (lo <= values[i] && values[i] < hi) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @see #min(int[], int, int)
+     */
+    long min(long[] values, int from, int to) {
+        long result = values[from];
+        for (int i = from + 1; i < to; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @see #max(int[], int, int)
+     */
+    long max(long[] values, int from, int to) {
+        long result = values[from];
+        for (int i = from + 1; i < to; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    /*********************************************
+     * long scans end
+     *********************************************/
+
+    /*********************************************
+     * double scans follow
+     *********************************************/
+
+    /**
+     * Returns the first index holding value, comparing as Double.compare
+     * does: NaN matches NaN, and 0.0 does not match -0.0.
+     *
+     * @see #indexOf(int[], int, int, int)
+     */
+    int indexOf(double[] values, int from, int to, double value) {
+        for (int i = from; i < to; i++) {
+            if (Double.compare(values[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the values v with lo <= v < hi as the operators compare
+     * them: NaN is never counted, and 0.0 and -0.0 are equal.
+     *
+     * @see #countInRange(int[], int, int, int, int)
+     */
+    int countInRange(double[] values, int from, int to, double lo, double hi) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (lo <= values[i] && values[i] < hi) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest value as Math.min picks it: NaN if any value is
+     * NaN, and -0.0 before 0.0.
+     *
+     * @see #min(int[], int, int)
+     */
+    double min(double[] values, int from, int to) {
+        double result = values[from];
+        for (int i = from + 1; i < to; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest value as Math.max picks it: NaN if any value is
+     * NaN, and 0.0 after -0.0.
+     *
+     * @see #max(int[], int, int)
+     */
+    double max(double[] values, int from, int to) {
+        double result = values[from];
+        for (int i = from + 1; i < to; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    /*********************************************
+     * double scans end
+     *********************************************/
+}
@@ -0,0 +1,261 @@
+package mylistpackage;
+
+import java.util.Arrays;
+
+/**
+ * A Bloom filter over element hash codes, used by unsorted lists to answer
+ * most contains calls for absent values without scanning. mightContain
+ * never returns false for a value that was added; it returns true for an
+ * absent value with about the configured false-positive rate.
+ *
+ * Values cannot be taken out of a Bloom filter, so the owning list reports
+ * removals and rebuilds the filter once isStale says the removed values,
+ * or more values than it was sized for, have pushed the false-positive
+ * rate up. The lookup counters survive rebuilds.
+ */
+public class BloomFilter {
+
+    /**
+     * fraction of the added values that may be removed before the filter
+     * is stale.
+     */
+    private static final double REBUILD_FRACTION = 0.25;
+
+    /**
+     * smallest number of values a filter is sized for.
+     */
+    private static final int MIN_EXPECTED = 16;
+
+    /**
+     * the false-positive rate the filter is sized for
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * the bit array
+     */
+    private long[] bits;
+
+    /**
+     * number of bits in use
+     */
+    private long bitCount;
+
+    /**
+     * number of bits set per value
+     */
+    private int hashCount;
+
+    /**
+     * number of values the filter is sized for
+     */
+    private int expected;
+
+    /**
+     * values added since the last reset
+     */
+    private int added;
+
+    /**
+     * values removed from the list since the last reset
+     */
+    private int removed;
+
+    /**
+     * lookups of values that were in the list
+     */
+    private long hits;
+
+    /**
+     * lookups the filter answered without a scan
+     */
+    private long definiteMisses;
+
+    /**
+     * lookups the filter let through that found nothing
+     */
+    private long falsePositives;
+
+    /**
+     * Constructs an empty filter.
+     *
+     * @param expectedElements the number of values to size the filter for
+     * @param falsePositiveRate 0 < falsePositiveRate < 1
+     * @throws IllegalArgumentException if falsePositiveRate is not between 0
+     *             and 1
+     */
+    public BloomFilter(int expectedElements, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate: " + falsePositiveRate);
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        reset(expectedElements);
+    }
+
+    /**
+     * Empties the filter and resizes it for the given number of values,
+     * keeping the lookup counters.
+     *
+     * @param expectedElements the number of values to size the filter for
+     */
+    public void reset(int expectedElements) {
+        expected = Math.max(expectedElements, MIN_EXPECTED);
+        double ln2 = Math.log(2);
+        double optimalBits = -expected * Math.log(falsePositiveRate) / (ln2 * ln2);
+        // at most 2^31 bits, so index can map a 32-bit hash with one multiply
+        long words = Math.max(1, Math.min((long) Math.ceil(optimalBits / 64), 1L << 25));
+        if (bits != null && bits.length == words) {
+            Arrays.fill(bits, 0);
+        } else {
+            bits = new long[(int) words];
+        }
+        bitCount = words * 64;
+        hashCount = Math.max(1, (int) Math.round(bitCount / (double) expected * ln2));
+        added = 0;
+        removed = 0;
+    }
+
+    /**
+     * Empties the filter without resizing it, keeping the lookup counters,
+     * so a list refilled to its old size does not have to rebuild it.
+     */
+    public void clear() {
+        reset(expected);
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value to add
+     */
+    public void add(Object value) {
+        long mixed = mix(value.hashCode());
+        int h1 = (int) mixed;
+        int h2 = (int) (mixed >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        added++;
+    }
+
+    /**
+     * Returns whether the value may have been added. A false answer is
+     * counted as a definite miss.
+     *
+     * @param value the value to look up
+     * @return false if the value was certainly not added, true otherwise
+     */
+    public boolean mightContain(Object value) {
+        long mixed = mix(value.hashCode());
+        int h1 = (int) mixed;
+        int h2 = (int) (mixed >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                definiteMisses++;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a lookup that mightContain let through.
+     *
+     * @param found whether the value was in the list
+     */
+    public void recordLookup(boolean found) {
+        if (found) {
+            hits++;
+        } else {
+            falsePositives++;
+        }
+    }
+
+    /**
+     * Records that a value was removed from the list; its bits stay set.
+     */
+    public void recordRemoval() {
+        removed++;
+    }
+
+    /**
+     * Returns whether the filter should be rebuilt: more values were added
+     * than it was sized for, or a quarter of them have been removed.
+     *
+     * @return true if the owner should reset and refill the filter
+     */
+    public boolean isStale() {
+        return added > expected || removed > added * REBUILD_FRACTION;
+    }
+
+    /**
+     * Returns the false-positive rate the filter is sized for.
+     *
+     * @return the configured false-positive rate
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Returns the number of lookups that found the value.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups the filter answered without a scan.
+     *
+     * @return the number of definite misses
+     */
+    public long getDefiniteMisses() {
+        return definiteMisses;
+    }
+
+    /**
+     * Returns the number of lookups the filter let through that found
+     * nothing.
+     *
+     * @return the number of false positives
+     */
+    public long getFalsePositives() {
+        return falsePositives;
+    }
+
+    /**
+     * Sets the lookup counters back to 0.
+     */
+    public void resetCounters() {
+        hits = 0;
+        definiteMisses = 0;
+        falsePositives = 0;
+    }
+
+    /**
+     * Spreads a hash code over 64 bits.
+     *
+     * @param hash the hash code
+     * @return the mixed bits
+     */
+    private static long mix(int hash) {
+        long z = hash * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Maps a 32-bit hash to a bit index without a division.
+     *
+     * @param hash the hash
+     * @return 0 <= index < bitCount
+     */
+    private long index(int hash) {
+        return ((hash & 0xFFFFFFFFL) * bitCount) >>> 32;
+    }
+}
@@ -0,0 +1,386 @@
+package mylistpackage;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Represents a thread-safe append-only list. Any number of threads may
+ * insert and read at the same time without locks.
+ *
+ * The values live in chunks that double in size, so the chunk of an index
+ * is found from its leading zeros and existing chunks never move. An
+ * insert reserves its index with one atomic increment and stores the
+ * value; the insert that takes the first slot of a chunk installs the next
+ * chunk with a compare-and-set, so chunks are ready before they fill.
+ * Values become visible in index order: getSize counts the longest prefix
+ * of stored values, and whichever thread stores the value that completes
+ * the prefix moves it forward, so no thread ever waits for another. Reads
+ * below getSize take a fixed number of steps.
+ *
+ * Values are never removed; remove, removeAtIndex, set and clear throw
+ * UnsupportedOperationException. Null values are not allowed.
+ *
+ * @param <E> is of any object type
+ */
+public class ConcurrentAppendList<E> implements MyList<E> {
+
+    /**
+     * log2 of the length of the first chunk.
+     */
+    private static final int FIRST_CHUNK_SHIFT = 5;
+
+    /**
+     * number of chunks; one more would need a chunk of 2^31 values.
+     */
+    private static final int CHUNKS = 31 - FIRST_CHUNK_SHIFT;
+
+    /**
+     * largest number of values the chunks can hold.
+     */
+    private static final int MAX_SIZE = ((1 << CHUNKS) - 1) << FIRST_CHUNK_SHIFT;
+
+    /**
+     * the chunks; chunk k holds 2^(k + FIRST_CHUNK_SHIFT) values
+     */
+    private final AtomicReferenceArray<AtomicReferenceArray<E>> chunks;
+
+    /**
+     * number of indexes handed out to inserts
+     */
+    private final AtomicInteger reserved;
+
+    /**
+     * number of values, all stored, that readers may see
+     */
+    private final AtomicInteger published;
+
+    /**
+     * Constructs an empty list.
+     */
+    public ConcurrentAppendList() {
+        chunks = new AtomicReferenceArray<AtomicReferenceArray<E>>(CHUNKS);
+        chunks.set(0, new AtomicReferenceArray<E>(1 << FIRST_CHUNK_SHIFT));
+        reserved = new AtomicInteger();
+        published = new AtomicInteger();
+    }
+
+    /**
+     * Returns the number of values visible to readers. Inserts that have
+     * reserved an index but not yet stored their value are not counted.
+     *
+     * @see mylistpackage.MyList#getSize()
+     */
+    public int getSize() {
+        return published.get();
+    }
+
+    /**
+     * @see mylistpackage.MyList#isEmpty()
+     */
+    public boolean isEmpty() {
+        return published.get() == 0;
+    }
+
+    /**
+     * @see mylistpackage.MyList#contains(java.lang.Object)
+     */
+    public boolean contains(E value) {
+        return getIndex(value) >= 0;
+    }
+
+    /**
+     * Appends a value. Safe to call from any number of threads at once.
+     *
+     * @param value the value to append
+     * @throws IllegalArgumentException if value is null
+     * @throws IllegalStateException if the list already holds the largest
+     *             number of values it can index
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    public void insert(E value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value: null");
+        }
+        int index = reserved.getAndIncrement();
+        if (index >= MAX_SIZE) {
+            reserved.decrementAndGet();
+            throw new IllegalStateException("list is full");
+        }
+        int chunk = chunkOf(index);
+        int offset = offsetOf(index, chunk);
+        if (offset == 0 && chunk + 1 < CHUNKS) {
+            // exactly one thread gets each first slot; it installs the next
+            // chunk early, so threads rarely race to allocate the same one
+            installChunk(chunk + 1);
+        }
+        installChunk(chunk).set(offset, value);
+        publish();
+    }
+
+    /**
+     * Not supported; values are never removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void clear() {
+        throw new UnsupportedOperationException("append-only list");
+    }
+
+    /**
+     * Not supported; values are never removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void remove(E value) {
+        throw new UnsupportedOperationException("append-only list");
+    }
+
+    /**
+     * Creates a comma-separated, bracketed version of the list.
+     *
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return MyLists.toString(this);
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value among the values visible when the search
+     * starts.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    public int getIndex(E value) {
+        int count = published.get();
+        int index = 0;
+        for (int chunk = 0; index < count; chunk++) {
+            AtomicReferenceArray<E> values = chunks.get(chunk);
+            int end = Math.min(values.length(), count - index);
+            for (int i = 0; i < end; i++) {
+                if (values.get(i).equals(value)) {
+                    return index + i;
+                }
+            }
+            index += end;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value at the given index in the list.
+     *
+     * @param index < getSize() and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index >= getSize()
+     * @return the value at the given index in the list.
+     */
+    public E get(int index) {
+        if (index < 0 || index >= published.get()) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        return valueAt(index);
+    }
+
+    /**
+     * Not supported; values are never removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeAtIndex(int index) {
+        throw new UnsupportedOperationException("append-only list");
+    }
+
+    /**
+     * Not supported; values are never replaced.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void set(int index, E value) {
+        throw new UnsupportedOperationException("append-only list");
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Moves published past every stored value that directly follows it.
+     * A thread that stops at a gap leaves its value to the thread that
+     * fills the gap, which sees the value when it gets here.
+     */
+    private void publish() {
+        int count = published.get();
+        while (count < reserved.get()) {
+            int chunk = chunkOf(count);
+            AtomicReferenceArray<E> values = chunks.get(chunk);
+            if (values == null || values.get(offsetOf(count, chunk)) == null) {
+                return;
+            }
+            // a failed CAS means another thread moved it; continue from there
+            published.compareAndSet(count, count + 1);
+            count = published.get();
+        }
+    }
+
+    /**
+     * Installs a chunk unless another thread already has.
+     *
+     * @param chunk the chunk number
+     * @return the installed chunk
+     */
+    private AtomicReferenceArray<E> installChunk(int chunk) {
+        AtomicReferenceArray<E> values = chunks.get(chunk);
+        if (values == null) {
+            chunks.compareAndSet(chunk, null,
+                                 new AtomicReferenceArray<E>(1 << (chunk + FIRST_CHUNK_SHIFT)));
+            values = chunks.get(chunk);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the value at a published index.
+     *
+     * @param index 0 <= index < published
+     * @return the value
+     */
+    private E valueAt(int index) {
+        int chunk = chunkOf(index);
+        return chunks.get(chunk).get(offsetOf(index, chunk));
+    }
+
+    /**
+     * Returns the chunk that holds the given index.
+     *
+     * @param index an index >= 0
+     * @return the chunk number
+     */
+    private static int chunkOf(int index) {
+        return 31 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_SHIFT) + 1);
+    }
+
+    /**
+     * Returns the position of the given index within its chunk.
+     *
+     * @param index an index >= 0
+     * @param chunk the chunk that holds index
+     * @return the offset within the chunk
+     */
+    private static int offsetOf(int index, int chunk) {
+        return index - (((1 << chunk) - 1) << FIRST_CHUNK_SHIFT);
+    }
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Returns an iterator over the values visible when it is created.
+     * Values appended later are not seen; the iterator does not support
+     * remove.
+     *
+     * @return an iterator for the list.
+     */
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+
+            /**
+             * number of values to visit
+             */
+            private final int count = published.get();
+
+            /**
+             * index of the next value
+             */
+            private int index;
+
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            public E next() {
+                if (index >= count) {
+                    throw new NoSuchElementException();
+                }
+                return valueAt(index++);
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the values visible when it is created. It
+     * splits the index range exactly in half and reports SIZED and
+     * SUBSIZED; values appended later are not seen.
+     *
+     * @see mylistpackage.MyList#spliterator()
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexSpliterator(0, published.get());
+    }
+
+    /**
+     * Represents a spliterator over a range of published indexes.
+     */
+    private final class IndexSpliterator implements Spliterator<E> {
+
+        /**
+         * Index of the next value.
+         */
+        private int index;
+
+        /**
+         * Index after the last value of the range.
+         */
+        private final int end;
+
+        /**
+         * Constructs a spliterator over the indexes from index up to end.
+         *
+         * @param index the first index
+         * @param end the index after the last
+         */
+        IndexSpliterator(int index, int end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(valueAt(index++));
+            return true;
+        }
+
+        public Spliterator<E> trySplit() {
+            int middle = (index + end) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            IndexSpliterator prefix = new IndexSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        public long estimateSize() {
+            return end - index;
+        }
+
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods end
+     *********************************************/
+}
@@ -0,0 +1,565 @@
+package mylistpackage;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Represents a thread-safe sorted node-based list that orders values the
+ * way LinkedListSorted does, using lazy synchronization instead of one
+ * lock for the whole list.
+ *
+ * Writers search without locks, then lock only the nodes around the change
+ * and check that those nodes are still linked and adjacent; if another
+ * thread got in between, they search again. Removal first marks a node,
+ * then unlinks it, so a thread that still holds the node can tell it is
+ * gone. contains, getIndex, get and iteration take no locks at all and
+ * skip marked nodes. Threads working on different parts of the list
+ * therefore never block each other.
+ *
+ * Locks are taken in list order, predecessor before successor, so writers
+ * cannot deadlock. Index-based methods see the list as it is while they
+ * walk it; under concurrent writes an index is only a snapshot.
+ *
+ * @param <E> is of any comparable object type
+ */
+public class ConcurrentLinkedListSorted<E extends Comparable<? super E>>
+        implements SortedMyList<E> {
+
+    /**
+     * sentinel in front of the first node
+     */
+    private final Node<E> head;
+
+    /**
+     * sentinel after the last node
+     */
+    private final Node<E> tail;
+
+    /**
+     * number of linked, unmarked nodes
+     */
+    private final AtomicInteger count;
+
+    /**
+     * Constructs an empty list.
+     */
+    public ConcurrentLinkedListSorted() {
+        tail = new Node<E>(null, null);
+        head = new Node<E>(null, tail);
+        count = new AtomicInteger();
+    }
+
+    /**
+     * @see mylistpackage.MyList#getSize()
+     */
+    public int getSize() {
+        return count.get();
+    }
+
+    /**
+     * @see mylistpackage.MyList#isEmpty()
+     */
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * Returns whether value is in the list, without taking any lock.
+     *
+     * @see mylistpackage.MyList#contains(java.lang.Object)
+     */
+    public boolean contains(E value) {
+        for (Node<E> current = head.next; current != tail; current = current.next) {
+            E data = current.data;
+            int comparison = data.compareTo(value);
+            if (comparison > 0) {
+                return false;
+            }
+            if (comparison == 0 && !current.marked && data.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inserts value in front of the first value that is not smaller,
+     * locking only the node it is linked after.
+     *
+     * @param value the value to insert
+     * @throws IllegalArgumentException if value is null
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    public void insert(E value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value: null");
+        }
+        while (true) {
+            Node<E> previous = head;
+            Node<E> current = previous.next;
+            while (current != tail && current.data.compareTo(value) < 0) {
+                previous = current;
+                current = current.next;
+            }
+            // removing or changing current also needs the lock on previous,
+            // so once it is held both neighbours stay put; set may have
+            // changed their values during the search, so check the order
+            synchronized (previous) {
+                if (!previous.marked && previous.next == current
+                        && (previous == head || previous.data.compareTo(value) < 0)
+                        && (current == tail || current.data.compareTo(value) >= 0)) {
+                    previous.next = new Node<E>(value, current);
+                    count.incrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every value.
+     *
+     * @see mylistpackage.MyList#clear()
+     */
+    public void clear() {
+        removeIf(value -> true);
+    }
+
+    /**
+     * Creates a comma-separated, bracketed version of the list.
+     *
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return MyLists.toString(this);
+    }
+
+    /**
+     * @see mylistpackage.MyList#writeTo(java.lang.Appendable)
+     */
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        out.append('[');
+        boolean first = true;
+        for (Node<E> current = head.next; current != tail; current = current.next) {
+            if (!current.marked) {
+                if (!first) {
+                    out.append(", ");
+                }
+                out.append(String.valueOf(current.data));
+                first = false;
+            }
+        }
+        out.append(']');
+    }
+
+    /**
+     * Removes the first occurrence of value.
+     *
+     * @see mylistpackage.MyList#remove(java.lang.Object)
+     */
+    public void remove(E value) {
+        while (true) {
+            Node<E> previous = head;
+            Node<E> current = previous.next;
+            while (current != tail) {
+                int comparison = current.data.compareTo(value);
+                if (comparison > 0 || comparison == 0 && current.data.equals(value)) {
+                    break;
+                }
+                previous = current;
+                current = current.next;
+            }
+            if (current == tail || !current.data.equals(value)) {
+                return;
+            }
+            synchronized (previous) {
+                synchronized (current) {
+                    if (isAdjacent(previous, current) && current.data.equals(value)) {
+                        unlink(previous, current);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every element that satisfies the filter in one traversal,
+     * locking each matching node and its predecessor only while unlinking
+     * it. If another thread changes the list around a match, the traversal
+     * starts again, so the filter may see a value more than once.
+     *
+     * @see mylistpackage.MyList#removeIf(java.util.function.Predicate)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("filter: null");
+        }
+        boolean removed = false;
+        Node<E> previous = head;
+        Node<E> current = previous.next;
+        while (current != tail) {
+            if (!current.marked && filter.test(current.data)) {
+                synchronized (previous) {
+                    synchronized (current) {
+                        if (isAdjacent(previous, current)) {
+                            unlink(previous, current);
+                            removed = true;
+                            current = previous.next;
+                            continue;
+                        }
+                    }
+                }
+                previous = head;
+                current = previous.next;
+            } else {
+                previous = current;
+                current = current.next;
+            }
+        }
+        return removed;
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    public int getIndex(E value) {
+        int index = 0;
+        for (Node<E> current = head.next; current != tail; current = current.next) {
+            if (current.marked) {
+                continue;
+            }
+            E data = current.data;
+            int comparison = data.compareTo(value);
+            if (comparison > 0) {
+                return -1;
+            }
+            if (comparison == 0 && data.equals(value)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value at the given index in the list.
+     *
+     * @param index < getSize() and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index >= getSize()
+     * @return the value at the given index in the list.
+     */
+    public E get(int index) {
+        checkIndex(index);
+        int position = 0;
+        for (Node<E> current = head.next; current != tail; current = current.next) {
+            if (!current.marked) {
+                if (position == index) {
+                    return current.data;
+                }
+                position++;
+            }
+        }
+        throw new IndexOutOfBoundsException("index: " + index);
+    }
+
+    /**
+     * Removes value at the given index, shifting subsequent values up.
+     *
+     * @param index < getSize() and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index >= getSize()
+     */
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        while (true) {
+            Node<E> previous = head;
+            Node<E> current = previous.next;
+            int position = 0;
+            while (current != tail && (current.marked || position < index)) {
+                if (!current.marked) {
+                    position++;
+                }
+                previous = current;
+                current = current.next;
+            }
+            if (current == tail) {
+                throw new IndexOutOfBoundsException("index: " + index);
+            }
+            synchronized (previous) {
+                synchronized (current) {
+                    if (isAdjacent(previous, current)) {
+                        unlink(previous, current);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the value at the given index with the given value, which must
+     * keep the list in order.
+     *
+     * @param index < getSize() and index >= 0
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index >= getSize()
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    public void set(int index, E value) {
+        checkIndex(index);
+        while (true) {
+            Node<E> previous = head;
+            Node<E> current = previous.next;
+            int position = 0;
+            while (current != tail && (current.marked || position < index)) {
+                if (!current.marked) {
+                    position++;
+                }
+                previous = current;
+                current = current.next;
+            }
+            if (current == tail) {
+                throw new IndexOutOfBoundsException("index: " + index);
+            }
+            // holding both locks keeps the neighbours of current in place
+            synchronized (previous) {
+                synchronized (current) {
+                    if (isAdjacent(previous, current)) {
+                        Node<E> following = current.next;
+                        if (previous != head && value.compareTo(previous.data) < 0
+                                || following != tail && value.compareTo(following.data) > 0) {
+                            throw new IllegalArgumentException();
+                        }
+                        current.data = value;
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the index is a legal index of the current list.
+     *
+     * @param index
+     * @throws IndexOutOfBoundsException if the given index is not a legal index of the current list
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count.get()) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Returns whether two locked nodes are still linked and adjacent.
+     *
+     * @param previous the locked predecessor
+     * @param current the locked node that should follow it
+     * @return true if neither node is removed and previous links to current
+     */
+    private static <E> boolean isAdjacent(Node<E> previous, Node<E> current) {
+        return !previous.marked && !current.marked && previous.next == current;
+    }
+
+    /**
+     * Marks current as removed and links previous past it. Both nodes must
+     * be locked and adjacent.
+     *
+     * @param previous the predecessor of current
+     * @param current the node to remove
+     */
+    private void unlink(Node<E> previous, Node<E> current) {
+        current.marked = true;
+        previous.next = current.next;
+        count.decrementAndGet();
+    }
+
+    /**
+     * Removes a node the caller has seen in the list, unless another thread
+     * removed it first.
+     *
+     * @param node the node to remove
+     */
+    private void unlink(Node<E> node) {
+        while (!node.marked) {
+            Node<E> previous = head;
+            while (previous != tail && previous.next != node) {
+                previous = previous.next;
+            }
+            if (previous == tail) {
+                return;
+            }
+            synchronized (previous) {
+                synchronized (node) {
+                    if (isAdjacent(previous, node)) {
+                        unlink(previous, node);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Represents a node of the list.
+     *
+     * @param <E> is of any object type
+     */
+    private static class Node<E> {
+
+        /**
+         * the value; changed only by set, under the locks of this node and
+         * its predecessor
+         */
+        volatile E data;
+
+        /**
+         * the following node
+         */
+        volatile Node<E> next;
+
+        /**
+         * whether the node has been removed
+         */
+        volatile boolean marked;
+
+        /**
+         * Constructs a node.
+         *
+         * @param data the value
+         * @param next the following node
+         */
+        Node(E data, Node<E> next) {
+            this.data = data;
+            this.next = next;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Returns an iterator that walks the list without locks. It sees every
+     * value that stays in the list for the whole walk and may or may not see
+     * concurrent changes.
+     *
+     * @return an iterator for the list.
+     */
+    public Iterator<E> iterator() {
+        return new ConcurrentIterator();
+    }
+
+    /**
+     * Returns a weakly consistent spliterator that reports SORTED and
+     * CONCURRENT but no size, since the size may change while it runs.
+     *
+     * @see mylistpackage.MyList#spliterator()
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED
+                | Spliterator.SORTED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Represents a weakly consistent iterator over the unmarked nodes.
+     */
+    private class ConcurrentIterator implements Iterator<E> {
+
+        /**
+         * The next unmarked node, or tail.
+         */
+        private Node<E> current;
+
+        /**
+         * The node last returned, or null if remove is not allowed.
+         */
+        private Node<E> last;
+
+        /**
+         * Constructs an iterator at the front of the list.
+         */
+        public ConcurrentIterator() {
+            current = skipMarked(head.next);
+            last = null;
+        }
+
+        /**
+         * Returns whether there are more list elements.
+         *
+         * @return true if there are more elements left, false otherwise
+         * @see java.util.Iterator#hasNext()
+         */
+        public boolean hasNext() {
+            return current != tail;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @throws NoSuchElementException if no more elements.
+         * @return the next element in the iteration.
+         * @see java.util.Iterator#next()
+         */
+        public E next() {
+            if (current == tail) {
+                throw new NoSuchElementException();
+            }
+            last = current;
+            E result = current.data;
+            current = skipMarked(current.next);
+            return result;
+        }
+
+        /**
+         * Removes the last element returned by the iterator.
+         *
+         * @throws IllegalStateException if a call to next has not been made
+         *             before call to remove.
+         * @see java.util.Iterator#remove()
+         */
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            unlink(last);
+            last = null;
+        }
+
+        /**
+         * Returns the first unmarked node from the given one on.
+         *
+         * @param node where to start
+         * @return an unmarked node, or tail
+         */
+        private Node<E> skipMarked(Node<E> node) {
+            while (node != tail && node.marked) {
+                node = node.next;
+            }
+            return node;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods end
+     *********************************************/
+}
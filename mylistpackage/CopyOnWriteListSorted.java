@@ -0,0 +1,91 @@
+package mylistpackage;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Represents a thread-safe sorted copy-on-write list. Writers change a
+ * private ArrayListSorted and publish it; readers binary search the
+ * published array without locks.
+ *
+ * @param <E> is of any comparable object type
+ */
+public class CopyOnWriteListSorted<E extends Comparable<? super E>>
+        extends AbstractCopyOnWriteMyList<E> implements SortedMyList<E> {
+
+    /**
+     * Constructs an empty list.
+     */
+    public CopyOnWriteListSorted() {
+        super();
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of the first occurrence of value, found by binary
+     * search of the published array without locks.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public int getIndex(E value) {
+        Object[] values = snapshot;
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (((E) values[middle]).compareTo(value) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        // equal values are adjacent; the first that equals value wins
+        for (int i = low; i < values.length && ((E) values[i]).compareTo(value) == 0; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * @see mylistpackage.AbstractCopyOnWriteMyList#copyOf(java.lang.Object[])
+     */
+    @Override
+    protected AbstractArrayMyList<E> copyOf(Object[] values) {
+        ArrayListSorted<E> list = new ArrayListSorted<E>(values.length + 1);
+        System.arraycopy(values, 0, list.elementData, 0, values.length);
+        list.size = values.length - 1;
+        return list;
+    }
+
+    /**
+     * @see mylistpackage.AbstractCopyOnWriteMyList#spliterator()
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(snapshot, Spliterator.ORDERED | Spliterator.IMMUTABLE
+                                                  | Spliterator.SORTED);
+    }
+
+    /**
+     * Merges any values the transaction left in the write buffer before
+     * publishing.
+     *
+     * @see mylistpackage.AbstractCopyOnWriteMyList#publish(AbstractArrayMyList)
+     */
+    @Override
+    protected Object[] publish(AbstractArrayMyList<E> working) {
+        ((ArrayListSorted<E>) working).flushWriteBuffer();
+        return super.publish(working);
+    }
+}
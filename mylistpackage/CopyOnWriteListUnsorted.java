@@ -0,0 +1,55 @@
+package mylistpackage;
+
+/**
+ * Represents a thread-safe unsorted copy-on-write list. Writers change a
+ * private ArrayListUnsorted and publish it, so values are inserted at the
+ * end and removeAtIndex moves the last value into the gap, as in
+ * ArrayListUnsorted.
+ *
+ * @param <E> is of any object type
+ */
+public class CopyOnWriteListUnsorted<E> extends AbstractCopyOnWriteMyList<E> {
+
+    /**
+     * Constructs an empty list.
+     */
+    public CopyOnWriteListUnsorted() {
+        super();
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value, searching the published array without
+     * locks.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    public int getIndex(E value) {
+        Object[] values = snapshot;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * @see mylistpackage.AbstractCopyOnWriteMyList#copyOf(java.lang.Object[])
+     */
+    @Override
+    protected AbstractArrayMyList<E> copyOf(Object[] values) {
+        ArrayListUnsorted<E> list = new ArrayListUnsorted<E>(values.length + 1);
+        System.arraycopy(values, 0, list.elementData, 0, values.length);
+        list.size = values.length - 1;
+        return list;
+    }
+}
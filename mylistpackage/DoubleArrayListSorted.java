@@ -0,0 +1,172 @@
+package mylistpackage;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a sorted array-based list of unboxed double values. Lookups run a
+ * binary search directly on the double array.
+ */
+public class DoubleArrayListSorted extends AbstractDoubleArrayList {
+
+    /**
+     * Constructs an empty list of default capacity.
+     */
+    public DoubleArrayListSorted() {
+        this(AbstractArrayMyList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity.
+     * 
+     * @param capacity > 0
+     * @throws IllegalArgumentException if capacity <= 0
+     */
+    public DoubleArrayListSorted(int capacity) {
+        this(capacity, AbstractArrayMyList.DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity that grows and shrinks
+     * as the given policy decides.
+     * 
+     * @param capacity > 0
+     * @param growthPolicy decides how the list grows and shrinks
+     * @throws IllegalArgumentException if capacity <= 0 or growthPolicy is null
+     */
+    public DoubleArrayListSorted(int capacity, GrowthPolicy growthPolicy) {
+        super(capacity, growthPolicy);
+    }
+
+    /**
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(double value) {
+        ensureCapacity(size + 2);
+        int index = Arrays.binarySearch(elementData, 0, size + 1, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        System.arraycopy(elementData, index, elementData, index + 1, size + 1 - index);
+        elementData[index] = value;
+        size++;
+    }
+
+    /**
+     * Counts the values v with lo <= v < hi by two binary searches, in
+     * O(log n). Values compare as the operators compare them, as in the
+     * scan: NaN is never counted, and 0.0 and -0.0 are equal.
+     * 
+     * @see mylistpackage.AbstractDoubleArrayList#countInRange(double, double)
+     */
+    @Override
+    public int countInRange(double lo, double hi) {
+        if (!(lo <= hi)) {
+            throw new IllegalArgumentException("lo: " + lo + " > hi: " + hi);
+        }
+        // -0.0 sorts first of the two zeros, and the operators count it as 0.0
+        return lowerBound(hi == 0.0 ? -0.0 : hi) - lowerBound(lo == 0.0 ? -0.0 : lo);
+    }
+
+    /**
+     * Returns the smallest value in O(1). NaN sorts last, so the list holds
+     * a NaN exactly when its last value is one; the result is the same as
+     * the scan's.
+     * 
+     * @see mylistpackage.AbstractDoubleArrayList#min()
+     */
+    @Override
+    public double min() {
+        if (size == -1) {
+            throw new NoSuchElementException();
+        }
+        return Double.isNaN(elementData[size]) ? elementData[size] : elementData[0];
+    }
+
+    /**
+     * Returns the largest value in O(1).
+     * 
+     * @see mylistpackage.AbstractDoubleArrayList#max()
+     */
+    @Override
+    public double max() {
+        if (size == -1) {
+            throw new NoSuchElementException();
+        }
+        return elementData[size];
+    }
+
+    /**
+     * Returns the index of the first value that is not smaller than value,
+     * or size + 1 if there is none.
+     * 
+     * @param value the bound
+     * @return the number of values smaller than value
+     */
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = size + 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Double.compare(elementData[middle], value) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     * 
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    @Override
+    public int getIndex(double value) {
+        int index = Arrays.binarySearch(elementData, 0, size + 1, value);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Removes value at the given index, shifting subsequent values up.
+     * 
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    @Override
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        System.arraycopy(elementData, index + 1, elementData, index, size - index);
+        size--;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     * 
+     * @param index <= size and index >= 0
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    @Override
+    public void set(int index, double value) {
+        checkIndex(index);
+        if ((index > 0 && Double.compare(elementData[index - 1], value) > 0)
+                || (index < size && Double.compare(value, elementData[index + 1]) > 0)) {
+            throw new IllegalArgumentException();
+        }
+        elementData[index] = value;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+}
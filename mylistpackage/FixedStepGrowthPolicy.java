@@ -0,0 +1,47 @@
+package mylistpackage;
+
+/**
+ * Grows the backing array by a constant number of slots. Appending n
+ * elements copies O(n^2 / step) elements, so this only suits lists whose
+ * final size is known to be small. Shrinks once more than two steps are
+ * unused, back to one step of headroom.
+ */
+public class FixedStepGrowthPolicy implements GrowthPolicy {
+
+    /**
+     * number of slots added per growth.
+     */
+    private final int step;
+
+    /**
+     * Constructs a policy that grows by the given number of slots.
+     * 
+     * @param step > 0
+     * @throws IllegalArgumentException if step <= 0
+     */
+    public FixedStepGrowthPolicy(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("step: " + step);
+        }
+        this.step = step;
+    }
+
+    /**
+     * @see mylistpackage.GrowthPolicy#grow(int, int)
+     */
+    @Override
+    public int grow(int capacity, int required) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max((long) capacity + step, required));
+    }
+
+    /**
+     * @see mylistpackage.GrowthPolicy#shrink(int, int)
+     */
+    @Override
+    public int shrink(int capacity, int elements) {
+        if (capacity - elements > 2L * step) {
+            return elements + step;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,368 @@
+package mylistpackage;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Represents an immutable sorted list laid out in Eytzinger order: the
+ * values form an implicit binary search tree stored breadth first, so the
+ * root is at slot 1 and the children of slot k are at slots 2k and 2k + 1.
+ * A search walks down from the root, and the first levels of the tree,
+ * which every search visits, share a few cache lines instead of being
+ * spread across the whole array as the probes of a binary search are.
+ *
+ * The descent has no data-dependent branch: each step moves to 2k or
+ * 2k + 1 by adding the sign bit of a comparison. Lists are created by
+ * ArrayListSorted.freeze. Every method that would change the list throws
+ * UnsupportedOperationException.
+ *
+ * @param <E> is of any comparable object type
+ */
+public final class FrozenSortedList<E extends Comparable<? super E>>
+        implements SortedMyList<E> {
+
+    /**
+     * the values in Eytzinger order, from slot 1; slot 0 is unused
+     */
+    private final Object[] tree;
+
+    /**
+     * sorted index of the value in each slot
+     */
+    private final int[] ranks;
+
+    /**
+     * number of values
+     */
+    private final int count;
+
+    /**
+     * Builds the Eytzinger layout of the first count values of a sorted
+     * array.
+     *
+     * @param sorted values in ascending order
+     * @param count the number of values to take, 0 <= count <= sorted.length
+     */
+    FrozenSortedList(Object[] sorted, int count) {
+        this.count = count;
+        tree = new Object[count + 1];
+        ranks = new int[count + 1];
+        ranks[0] = count;
+        // an in-order walk of the implicit tree visits the slots in sorted order
+        int rank = 0;
+        int slot = leftmost(1);
+        while (slot != 0) {
+            tree[slot] = sorted[rank];
+            ranks[slot] = rank;
+            rank++;
+            slot = successor(slot);
+        }
+    }
+
+    /**
+     * @see mylistpackage.MyList#getSize()
+     */
+    public int getSize() {
+        return count;
+    }
+
+    /**
+     * @see mylistpackage.MyList#isEmpty()
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @see mylistpackage.MyList#contains(java.lang.Object)
+     */
+    public boolean contains(E value) {
+        return getIndex(value) != -1;
+    }
+
+    /**
+     * Returns the number of values that are smaller than the given value,
+     * which is also the index the value has, or would have, in the list.
+     *
+     * @param value the value to search for
+     * @return 0 <= rank <= getSize()
+     */
+    public int rank(E value) {
+        return ranks[lowerBoundSlot(value)];
+    }
+
+    /**
+     * Not supported; the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void insert(E value) {
+        throw new UnsupportedOperationException("frozen list");
+    }
+
+    /**
+     * Not supported; the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void clear() {
+        throw new UnsupportedOperationException("frozen list");
+    }
+
+    /**
+     * Not supported; the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void remove(E value) {
+        throw new UnsupportedOperationException("frozen list");
+    }
+
+    /**
+     * Creates a comma-separated, bracketed version of the list.
+     *
+     * @see java.lang.Object#toString()
+     */
+    public String toString() {
+        return MyLists.toString(this);
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of the first occurrence of value.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    public int getIndex(E value) {
+        int slot = lowerBoundSlot(value);
+        return tree[slot] != null && tree[slot].equals(value) ? ranks[slot] : -1;
+    }
+
+    /**
+     * Returns the value at the given index, found in O(log n) by walking
+     * down the tree by rank.
+     *
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index >= getSize()
+     * @return the value at the given index in the list.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        return (E) tree[slotOf(index)];
+    }
+
+    /**
+     * Not supported; the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void removeAtIndex(int index) {
+        throw new UnsupportedOperationException("frozen list");
+    }
+
+    /**
+     * Not supported; the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    public void set(int index, E value) {
+        throw new UnsupportedOperationException("frozen list");
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Returns the slot of the first value that is not smaller than the
+     * given value, or 0 if every value is smaller.
+     *
+     * @param value the value to search for
+     * @return the slot of the lower bound, or 0
+     */
+    @SuppressWarnings("unchecked")
+    private int lowerBoundSlot(E value) {
+        int slot = 1;
+        while (slot <= count) {
+            // go right exactly when tree[slot] < value
+            slot = 2 * slot + (((E) tree[slot]).compareTo(value) >>> 31);
+        }
+        // the path ends with one left turn followed by right turns; undo them
+        return slot >>> (Integer.numberOfTrailingZeros(~slot) + 1);
+    }
+
+    /**
+     * Returns the slot holding the value of the given rank, found by walking
+     * down the tree by rank.
+     *
+     * @param rank 0 <= rank < count
+     * @return the slot of the value
+     */
+    private int slotOf(int rank) {
+        int slot = 1;
+        while (ranks[slot] != rank) {
+            slot = 2 * slot + (ranks[slot] < rank ? 1 : 0);
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the leftmost slot of the subtree rooted at the given slot.
+     *
+     * @param slot the root of the subtree
+     * @return the slot of the smallest value of the subtree, or 0 if it is
+     *         empty
+     */
+    private int leftmost(int slot) {
+        if (slot > count) {
+            return 0;
+        }
+        while (2 * slot <= count) {
+            slot *= 2;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot that follows the given slot in sorted order.
+     *
+     * @param slot a slot holding a value
+     * @return the slot of the next value, or 0 after the last one
+     */
+    private int successor(int slot) {
+        if (2 * slot + 1 <= count) {
+            return leftmost(2 * slot + 1);
+        }
+        // climb past every ancestor whose right subtree we are in
+        return slot >>> (Integer.numberOfTrailingZeros(~slot) + 1);
+    }
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Returns an iterator that visits the values in ascending order. The
+     * iterator does not support remove.
+     *
+     * @return an iterator for the list.
+     */
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+
+            /**
+             * Slot of the next value to return, or 0 at the end.
+             */
+            private int slot = leftmost(1);
+
+            public boolean hasNext() {
+                return slot != 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (slot == 0) {
+                    throw new NoSuchElementException();
+                }
+                E result = (E) tree[slot];
+                slot = successor(slot);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator that splits the values exactly in half by rank
+     * and reports SIZED, SUBSIZED, SORTED and IMMUTABLE. Each half finds
+     * its first slot with one descent and then follows in-order successors.
+     *
+     * @see mylistpackage.MyList#spliterator()
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new RankSpliterator(0, count);
+    }
+
+    /**
+     * Represents a spliterator over a range of ranks.
+     */
+    private final class RankSpliterator implements Spliterator<E> {
+
+        /**
+         * Rank of the next value.
+         */
+        private int rank;
+
+        /**
+         * Rank after the last value of the range.
+         */
+        private final int end;
+
+        /**
+         * Slot of the next value, or 0 at the end.
+         */
+        private int slot;
+
+        /**
+         * Constructs a spliterator over the ranks from rank up to end.
+         *
+         * @param rank the first rank
+         * @param end the rank after the last
+         */
+        RankSpliterator(int rank, int end) {
+            this.rank = rank;
+            this.end = end;
+            slot = rank < end ? slotOf(rank) : 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (rank >= end) {
+                return false;
+            }
+            action.accept((E) tree[slot]);
+            slot = successor(slot);
+            rank++;
+            return true;
+        }
+
+        public Spliterator<E> trySplit() {
+            int middle = (rank + end) >>> 1;
+            if (middle <= rank) {
+                return null;
+            }
+            RankSpliterator prefix = new RankSpliterator(rank, middle);
+            rank = middle;
+            slot = slotOf(middle);
+            return prefix;
+        }
+
+        public long estimateSize() {
+            return end - rank;
+        }
+
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | SORTED | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super E> getComparator() {
+            // natural order
+            return null;
+        }
+    }
+
+    /*********************************************
+     * Iterator list class / methods end
+     *********************************************/
+}
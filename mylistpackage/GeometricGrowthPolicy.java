@@ -0,0 +1,56 @@
+package mylistpackage;
+
+/**
+ * Grows the backing array by a constant factor, so appending n elements
+ * copies O(n) elements in total. Shrinks once the list is using less than
+ * 1 / factor^2 of the array, leaving room for a factor of growth before
+ * the next copy, so alternating inserts and removals cannot thrash.
+ */
+public class GeometricGrowthPolicy implements GrowthPolicy {
+
+    /**
+     * largest array length the VM reliably allocates.
+     */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * growth factor.
+     */
+    private final double factor;
+
+    /**
+     * Constructs a policy that grows by the given factor.
+     * 
+     * @param factor > 1
+     * @throws IllegalArgumentException if factor <= 1
+     */
+    public GeometricGrowthPolicy(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("factor: " + factor);
+        }
+        this.factor = factor;
+    }
+
+    /**
+     * @see mylistpackage.GrowthPolicy#grow(int, int)
+     */
+    @Override
+    public int grow(int capacity, int required) {
+        long newCapacity = Math.max((long) (capacity * factor), capacity + 1L);
+        if (newCapacity > MAX_ARRAY_LENGTH) {
+            newCapacity = MAX_ARRAY_LENGTH;
+        }
+        return (int) Math.max(newCapacity, required);
+    }
+
+    /**
+     * @see mylistpackage.GrowthPolicy#shrink(int, int)
+     */
+    @Override
+    public int shrink(int capacity, int elements) {
+        if (elements < capacity / (factor * factor)) {
+            return (int) Math.min(capacity, Math.max(1, (long) Math.ceil(elements * factor)));
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,27 @@
+package mylistpackage;
+
+/**
+ * Decides how the backing array of an array-based list grows when it is
+ * full and when it shrinks after removals.
+ */
+public interface GrowthPolicy {
+
+    /**
+     * Returns the new length of a full backing array.
+     * 
+     * @param capacity the current length of the backing array
+     * @param required the minimum length needed > capacity
+     * @return the new length >= required
+     */
+    public int grow(int capacity, int required);
+
+    /**
+     * Returns the length the backing array should have after a removal.
+     * Returning capacity keeps the array as it is.
+     * 
+     * @param capacity the current length of the backing array
+     * @param elements the number of elements in the list
+     * @return the new length, elements <= length <= capacity
+     */
+    public int shrink(int capacity, int elements);
+}
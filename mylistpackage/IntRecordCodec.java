@@ -0,0 +1,41 @@
+package mylistpackage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores Integer values as 4-byte records.
+ */
+public class IntRecordCodec implements RecordCodec<Integer> {
+
+    /**
+     * @see mylistpackage.RecordCodec#width()
+     */
+    @Override
+    public int width() {
+        return 4;
+    }
+
+    /**
+     * @see mylistpackage.RecordCodec#write(java.nio.ByteBuffer, int, java.lang.Object)
+     */
+    @Override
+    public void write(ByteBuffer buffer, int offset, Integer value) {
+        buffer.putInt(offset, value);
+    }
+
+    /**
+     * @see mylistpackage.RecordCodec#read(java.nio.ByteBuffer, int)
+     */
+    @Override
+    public Integer read(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset);
+    }
+
+    /**
+     * @see mylistpackage.RecordCodec#compare(java.nio.ByteBuffer, int, java.lang.Object)
+     */
+    @Override
+    public int compare(ByteBuffer buffer, int offset, Integer value) {
+        return Integer.compare(buffer.getInt(offset), value);
+    }
+}
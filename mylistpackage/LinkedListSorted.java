@@ -17,7 +17,8 @@ import mylistpackage.AbstractLinkedMyList.LinkedIterator;
  * @version Spring 2017
  * @param <E> is of any object type
  */
-public class LinkedListSorted<E extends Comparable<? super E>> extends AbstractLinkedMyList<E> { 
+public class LinkedListSorted<E extends Comparable<? super E>> extends AbstractLinkedMyList<E>
+        implements SortedMyList<E> {
     
     /**
      * Constructs an empty list.
@@ -41,6 +42,7 @@ public class LinkedListSorted<E extends Comparable<? super E>> extends AbstractL
     		back.next = valueNode;
     		back = valueNode;
     	} else {
+    		invalidateFinger(0);
     		ListNode<E> current = back;
     		while (value.compareTo(current.next.data) > 0)
     			current = current.next;
@@ -63,6 +65,7 @@ public class LinkedListSorted<E extends Comparable<? super E>> extends AbstractL
      */
     public void removeAtIndex(int index) {
         checkIndex(index);
+        invalidateFinger(index);
         if (index == 0) {
         	if (size == 0)
                 back = null;
@@ -15,6 +15,11 @@ import java.util.Iterator;
  * @param <E> is of any object type
  */
 public class LinkedListUnsorted<E> extends AbstractLinkedMyList<E> { 
+
+    /**
+     * filter that rules out absent values before a scan, or null
+     */
+    private BloomFilter bloom;
    
 	/**
      * Constructs an empty list.
@@ -24,6 +29,49 @@ public class LinkedListUnsorted<E> extends AbstractLinkedMyList<E> {
         size = -1;
     }
 
+    /**
+     * Turns the Bloom filter on or off. While it is on, insert adds each
+     * value to a filter sized for the given false-positive rate, and
+     * contains, getIndex and remove return at once for values the filter
+     * rules out. Removals leave stale bits behind, so the filter is rebuilt
+     * on the next lookup once a quarter of its values have been removed or
+     * the list has outgrown it.
+     * 
+     * @param falsePositiveRate 0 < falsePositiveRate < 1, or 0 to turn the
+     *            filter off
+     * @throws IllegalArgumentException if falsePositiveRate is not 0 and not
+     *             between 0 and 1
+     */
+    public void setBloomFilter(double falsePositiveRate) {
+        if (falsePositiveRate == 0) {
+            bloom = null;
+        } else {
+            bloom = new BloomFilter(2 * (size + 1), falsePositiveRate);
+            rebuildBloom();
+        }
+    }
+
+    /**
+     * Returns the Bloom filter, whose counters tell how many lookups it
+     * answered, let through and let through wrongly.
+     * 
+     * @return the filter, or null if it is off
+     */
+    public BloomFilter getBloomFilter() {
+        return bloom;
+    }
+
+    /**
+     * @see mylistpackage.MyList#clear()
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        if (bloom != null) {
+            bloom.clear();
+        }
+    }
+
     /**
      * @see mylistpackage.MyList#insert(java.lang.Object)
      */
@@ -39,6 +87,9 @@ public class LinkedListUnsorted<E> extends AbstractLinkedMyList<E> {
         	back = valueNode;
         }
         size++;
+        if (bloom != null) {
+            bloom.add(value);
+        }
     }  
 
     /*********************************************
@@ -52,13 +103,30 @@ public class LinkedListUnsorted<E> extends AbstractLinkedMyList<E> {
      * @return index of value if in the list, -1 otherwise.
      */
     public int getIndex(E value) {
+        if (back == null) {
+            return -1;
+        }
+        if (bloom != null) {
+            if (bloom.isStale()) {
+                rebuildBloom();
+            }
+            if (!bloom.mightContain(value)) {
+                return -1;
+            }
+        }
         ListNode<E> current = back.next;
         for (int i = 0; i <= size; i++) {
             if (current.data.equals(value)) {
+                if (bloom != null) {
+                    bloom.recordLookup(true);
+                }
                 return i;
             }
             current = current.next;
         }
+        if (bloom != null) {
+            bloom.recordLookup(false);
+        }
         return -1;
     }
     
@@ -70,6 +138,10 @@ public class LinkedListUnsorted<E> extends AbstractLinkedMyList<E> {
      */
     public void removeAtIndex(int index) {
         checkIndex(index);
+        invalidateFinger(index);
+        if (bloom != null) {
+            bloom.recordRemoval();
+        }
         if (index == 0) {
         	if (size == 0)
                 back = null;
@@ -95,12 +167,45 @@ public class LinkedListUnsorted<E> extends AbstractLinkedMyList<E> {
         checkIndex(index);
         ListNode<E> current = nodeAt(index);
         current.data = value;
+        if (bloom != null) {
+            bloom.recordRemoval();
+            bloom.add(value);
+        }
     }
     
     /*********************************************
      * Index list methods end
      *********************************************/
 
+    /**
+     * Removes the node after previous, noting the removal in the Bloom
+     * filter.
+     * 
+     * @see mylistpackage.AbstractLinkedMyList#unlinkNext(AbstractLinkedMyList.ListNode, int)
+     */
+    @Override
+    protected void unlinkNext(ListNode<E> previous, int index) {
+        super.unlinkNext(previous, index);
+        if (bloom != null) {
+            bloom.recordRemoval();
+        }
+    }
+
+    /**
+     * Empties the Bloom filter, sizes it for twice the current number of
+     * elements and adds every element again.
+     */
+    private void rebuildBloom() {
+        bloom.reset(2 * (size + 1));
+        if (back != null) {
+            ListNode<E> current = back.next;
+            for (int i = 0; i <= size; i++) {
+                bloom.add(current.data);
+                current = current.next;
+            }
+        }
+    }
+
     /*********************************************
      * Iterator list class / methods follow
      *********************************************/
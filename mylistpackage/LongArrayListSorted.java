@@ -0,0 +1,168 @@
+package mylistpackage;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a sorted array-based list of unboxed long values. Lookups run a
+ * binary search directly on the long array.
+ */
+public class LongArrayListSorted extends AbstractLongArrayList {
+
+    /**
+     * Constructs an empty list of default capacity.
+     */
+    public LongArrayListSorted() {
+        this(AbstractArrayMyList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity.
+     * 
+     * @param capacity > 0
+     * @throws IllegalArgumentException if capacity <= 0
+     */
+    public LongArrayListSorted(int capacity) {
+        this(capacity, AbstractArrayMyList.DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity that grows and shrinks
+     * as the given policy decides.
+     * 
+     * @param capacity > 0
+     * @param growthPolicy decides how the list grows and shrinks
+     * @throws IllegalArgumentException if capacity <= 0 or growthPolicy is null
+     */
+    public LongArrayListSorted(int capacity, GrowthPolicy growthPolicy) {
+        super(capacity, growthPolicy);
+    }
+
+    /**
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(long value) {
+        ensureCapacity(size + 2);
+        int index = Arrays.binarySearch(elementData, 0, size + 1, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        System.arraycopy(elementData, index, elementData, index + 1, size + 1 - index);
+        elementData[index] = value;
+        size++;
+    }
+
+    /**
+     * Counts the values v with lo <= v < hi by two binary searches, in
+     * O(log n).
+     * 
+     * @see mylistpackage.AbstractLongArrayList#countInRange(long, long)
+     */
+    @Override
+    public int countInRange(long lo, long hi) {
+        if (lo > hi) {
+            throw new IllegalArgumentException("lo: " + lo + " > hi: " + hi);
+        }
+        return lowerBound(hi) - lowerBound(lo);
+    }
+
+    /**
+     * Returns the smallest value in O(1).
+     * 
+     * @see mylistpackage.AbstractLongArrayList#min()
+     */
+    @Override
+    public long min() {
+        if (size == -1) {
+            throw new NoSuchElementException();
+        }
+        return elementData[0];
+    }
+
+    /**
+     * Returns the largest value in O(1).
+     * 
+     * @see mylistpackage.AbstractLongArrayList#max()
+     */
+    @Override
+    public long max() {
+        if (size == -1) {
+            throw new NoSuchElementException();
+        }
+        return elementData[size];
+    }
+
+    /**
+     * Returns the index of the first value that is not smaller than value,
+     * or size + 1 if there is none.
+     * 
+     * @param value the bound
+     * @return the number of values smaller than value
+     */
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = size + 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (elementData[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     * 
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    @Override
+    public int getIndex(long value) {
+        int index = Arrays.binarySearch(elementData, 0, size + 1, value);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Removes value at the given index, shifting subsequent values up.
+     * 
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    @Override
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        System.arraycopy(elementData, index + 1, elementData, index, size - index);
+        size--;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     * 
+     * @param index <= size and index >= 0
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    @Override
+    public void set(int index, long value) {
+        checkIndex(index);
+        if ((index > 0 && Long.compare(elementData[index - 1], value) > 0)
+                || (index < size && Long.compare(value, elementData[index + 1]) > 0)) {
+            throw new IllegalArgumentException();
+        }
+        elementData[index] = value;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+}
@@ -0,0 +1,93 @@
+package mylistpackage;
+
+/**
+ * Represents an unsorted array-based list of unboxed long values.
+ */
+public class LongArrayListUnsorted extends AbstractLongArrayList {
+
+    /**
+     * Constructs an empty list of default capacity.
+     */
+    public LongArrayListUnsorted() {
+        this(AbstractArrayMyList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity.
+     * 
+     * @param capacity > 0
+     * @throws IllegalArgumentException if capacity <= 0
+     */
+    public LongArrayListUnsorted(int capacity) {
+        this(capacity, AbstractArrayMyList.DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity that grows and shrinks
+     * as the given policy decides.
+     * 
+     * @param capacity > 0
+     * @param growthPolicy decides how the list grows and shrinks
+     * @throws IllegalArgumentException if capacity <= 0 or growthPolicy is null
+     */
+    public LongArrayListUnsorted(int capacity, GrowthPolicy growthPolicy) {
+        super(capacity, growthPolicy);
+    }
+
+    /**
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(long value) {
+        ensureCapacity(size + 2);
+        size++;
+        elementData[size] = value;
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value. Scans the list front to back, using SIMD
+     * instructions where the Vector API is available.
+     * 
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    @Override
+    public int getIndex(long value) {
+        return ArrayScanner.SCANNER.indexOf(elementData, 0, size + 1, value);
+    }
+
+    /**
+     * Removes value at the given index, moving the last value into its place.
+     * 
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    @Override
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        elementData[index] = elementData[size];
+        size--;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     * 
+     * @param index <= size and index >= 0
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    @Override
+    public void set(int index, long value) {
+        checkIndex(index);
+        elementData[index] = value;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+}
@@ -0,0 +1,41 @@
+package mylistpackage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores Long values as 8-byte records.
+ */
+public class LongRecordCodec implements RecordCodec<Long> {
+
+    /**
+     * @see mylistpackage.RecordCodec#width()
+     */
+    @Override
+    public int width() {
+        return 8;
+    }
+
+    /**
+     * @see mylistpackage.RecordCodec#write(java.nio.ByteBuffer, int, java.lang.Object)
+     */
+    @Override
+    public void write(ByteBuffer buffer, int offset, Long value) {
+        buffer.putLong(offset, value);
+    }
+
+    /**
+     * @see mylistpackage.RecordCodec#read(java.nio.ByteBuffer, int)
+     */
+    @Override
+    public Long read(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset);
+    }
+
+    /**
+     * @see mylistpackage.RecordCodec#compare(java.nio.ByteBuffer, int, java.lang.Object)
+     */
+    @Override
+    public int compare(ByteBuffer buffer, int offset, Long value) {
+        return Long.compare(buffer.getLong(offset), value);
+    }
+}
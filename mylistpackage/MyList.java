@@ -1,6 +1,12 @@
 package mylistpackage;
 
+import java.io.IOException;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents MyList interface.
@@ -54,6 +60,27 @@ public interface MyList<Type> {
      */
     @Override
     public String toString();
+
+    /**
+     * Writes the list contents to out in the same format as toString, one
+     * element at a time, without building the whole string in memory.
+     * 
+     * @param out where the contents are written
+     * @throws IOException if out throws one
+     */
+    public default void writeTo(Appendable out) throws IOException {
+        out.append('[');
+        Iterator<Type> iterator = iterator();
+        boolean first = true;
+        while (iterator.hasNext()) {
+            if (!first) {
+                out.append(", ");
+            }
+            out.append(String.valueOf(iterator.next()));
+            first = false;
+        }
+        out.append(']');
+    }
     
     /**
      * Removes first element occurence from the list.
@@ -116,6 +143,61 @@ public interface MyList<Type> {
      * @return an iterator for the list.
      */
     public Iterator<Type> iterator();
+
+    /**
+     * Returns a spliterator over the list in iteration order. This default
+     * splits by copying batches of growing size out of the iterator, which
+     * suits lists without random access; array-based and sorted lists
+     * override it to split exactly or to report SORTED.
+     * 
+     * @return a spliterator for the list
+     */
+    public default Spliterator<Type> spliterator() {
+        return Spliterators.spliterator(iterator(), getSize(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream over the list.
+     * 
+     * @return a stream of the list elements
+     */
+    public default Stream<Type> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the list. The list must not change
+     * while the stream runs unless the list is one of the concurrent ones.
+     * 
+     * @return a possibly parallel stream of the list elements
+     */
+    public default Stream<Type> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Removes every element that satisfies the filter. This default removes
+     * through the iterator; implementations override it to remove in a
+     * single pass.
+     * 
+     * @param filter returns true for elements to remove
+     * @return true if any element was removed
+     * @throws IllegalArgumentException if filter is null
+     */
+    public default boolean removeIf(Predicate<? super Type> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("filter: null");
+        }
+        boolean removed = false;
+        Iterator<Type> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
     
     /*********************************************
      * Iterator list class / methods end
@@ -0,0 +1,56 @@
+package mylistpackage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Helpers shared by the lists of this package.
+ */
+final class MyLists {
+
+    /**
+     * Anything that can write its contents to an Appendable, such as
+     * writeTo of a MyList or of a view over one.
+     */
+    interface Writer {
+
+        /**
+         * Writes the contents to out.
+         *
+         * @param out where the contents are written
+         * @throws IOException if out throws one
+         */
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    private MyLists() {
+    }
+
+    /**
+     * Creates the comma-separated, bracketed version of a list.
+     *
+     * @param list the list to write
+     * @return what writeTo writes
+     */
+    static String toString(MyList<?> list) {
+        return toString(list::writeTo);
+    }
+
+    /**
+     * Returns what writer writes, collected in a StringBuilder, so toString
+     * and writeTo cannot disagree.
+     *
+     * @param writer usually this::writeTo
+     * @return the contents as a string
+     */
+    static String toString(Writer writer) {
+        StringBuilder result = new StringBuilder();
+        try {
+            writer.writeTo(result);
+        } catch (IOException e) {
+            // a StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+}
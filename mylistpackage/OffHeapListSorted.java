@@ -0,0 +1,138 @@
+package mylistpackage;
+
+/**
+ * Represents a sorted off-heap list. Records are kept in the order defined
+ * by the codec, and lookups binary search the records in place without
+ * decoding them.
+ * 
+ * @param <E> the type that is in the list
+ */
+public class OffHeapListSorted<E> extends AbstractOffHeapMyList<E> {
+
+    /**
+     * Constructs an empty list of default capacity.
+     * 
+     * @param codec converts values to and from records
+     * @throws IllegalArgumentException if codec is null
+     */
+    public OffHeapListSorted(RecordCodec<E> codec) {
+        this(codec, AbstractArrayMyList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity.
+     * 
+     * @param codec converts values to and from records
+     * @param capacity > 0
+     * @throws IllegalArgumentException if codec is null or capacity <= 0
+     */
+    public OffHeapListSorted(RecordCodec<E> codec, int capacity) {
+        this(codec, capacity, AbstractArrayMyList.DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity that grows as the given
+     * policy decides.
+     * 
+     * @param codec converts values to and from records
+     * @param capacity > 0
+     * @param growthPolicy decides how the buffer grows
+     * @throws IllegalArgumentException if codec or growthPolicy is null, or
+     *             capacity <= 0
+     */
+    public OffHeapListSorted(RecordCodec<E> codec, int capacity, GrowthPolicy growthPolicy) {
+        super(codec, capacity, growthPolicy);
+    }
+
+    /**
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(E value) {
+        ensureCapacity(size + 2);
+        int index = search(value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        moveRecords(index, index + 1, size + 1 - index);
+        codec.write(buffer, index * width, value);
+        size++;
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     * 
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    @Override
+    public int getIndex(E value) {
+        checkOpen();
+        int index = search(value);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Binary searches the records for value.
+     * 
+     * @param value the value to search for
+     * @return the index of a record equal to value, or -(insertion point) - 1
+     *         if there is none
+     */
+    private int search(E value) {
+        int lowerBound = 0;
+        int upperBound = size;
+        while (lowerBound <= upperBound) {
+            int midPoint = (lowerBound + upperBound) >>> 1;
+            int compareResult = codec.compare(buffer, midPoint * width, value);
+            if (compareResult < 0) {
+                lowerBound = midPoint + 1;
+            } else if (compareResult > 0) {
+                upperBound = midPoint - 1;
+            } else {
+                return midPoint;
+            }
+        }
+        return -lowerBound - 1;
+    }
+
+    /**
+     * Removes value at the given index, shifting subsequent values up.
+     * 
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    @Override
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        moveRecords(index + 1, index, size - index);
+        size--;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     * 
+     * @param index <= size and index >= 0
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    @Override
+    public void set(int index, E value) {
+        checkIndex(index);
+        if ((index > 0 && codec.compare(buffer, (index - 1) * width, value) > 0)
+                || (index < size && codec.compare(buffer, (index + 1) * width, value) < 0)) {
+            throw new IllegalArgumentException();
+        }
+        codec.write(buffer, index * width, value);
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+}
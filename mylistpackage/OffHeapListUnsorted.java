@@ -0,0 +1,106 @@
+package mylistpackage;
+
+/**
+ * Represents an unsorted off-heap list.
+ * 
+ * @param <E> the type that is in the list
+ */
+public class OffHeapListUnsorted<E> extends AbstractOffHeapMyList<E> {
+
+    /**
+     * Constructs an empty list of default capacity.
+     * 
+     * @param codec converts values to and from records
+     * @throws IllegalArgumentException if codec is null
+     */
+    public OffHeapListUnsorted(RecordCodec<E> codec) {
+        this(codec, AbstractArrayMyList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity.
+     * 
+     * @param codec converts values to and from records
+     * @param capacity > 0
+     * @throws IllegalArgumentException if codec is null or capacity <= 0
+     */
+    public OffHeapListUnsorted(RecordCodec<E> codec, int capacity) {
+        this(codec, capacity, AbstractArrayMyList.DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list of the given capacity that grows as the given
+     * policy decides.
+     * 
+     * @param codec converts values to and from records
+     * @param capacity > 0
+     * @param growthPolicy decides how the buffer grows
+     * @throws IllegalArgumentException if codec or growthPolicy is null, or
+     *             capacity <= 0
+     */
+    public OffHeapListUnsorted(RecordCodec<E> codec, int capacity, GrowthPolicy growthPolicy) {
+        super(codec, capacity, growthPolicy);
+    }
+
+    /**
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(E value) {
+        ensureCapacity(size + 2);
+        size++;
+        codec.write(buffer, size * width, value);
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     * 
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    @Override
+    public int getIndex(E value) {
+        checkOpen();
+        for (int i = 0; i <= size; i++) {
+            if (codec.compare(buffer, i * width, value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes value at the given index, moving the last value into its place.
+     * 
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    @Override
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        copyRecord(size, index);
+        size--;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     * 
+     * @param index <= size and index >= 0
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    @Override
+    public void set(int index, E value) {
+        checkIndex(index);
+        codec.write(buffer, index * width, value);
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+}
@@ -0,0 +1,51 @@
+package mylistpackage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts values to and from fixed-width records in a ByteBuffer, so an
+ * off-heap list can store, compare and search them without objects.
+ * 
+ * @param <E> the type of the values
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * Returns the number of bytes each record takes.
+     * 
+     * @return the record width > 0
+     */
+    public int width();
+
+    /**
+     * Writes a value as the record at the given byte offset.
+     * 
+     * @param buffer the buffer to write to
+     * @param offset the byte offset of the record
+     * @param value the value to write
+     */
+    public void write(ByteBuffer buffer, int offset, E value);
+
+    /**
+     * Reads the record at the given byte offset.
+     * 
+     * @param buffer the buffer to read from
+     * @param offset the byte offset of the record
+     * @return the value of the record
+     */
+    public E read(ByteBuffer buffer, int offset);
+
+    /**
+     * Compares the record at the given byte offset with a value, ideally
+     * without decoding the record into an object. Sorted lists keep their
+     * records in this order, and all lists treat records that compare as 0
+     * as equal.
+     * 
+     * @param buffer the buffer to read from
+     * @param offset the byte offset of the record
+     * @param value the value to compare with
+     * @return a negative number, zero, or a positive number as the record is
+     *         less than, equal to, or greater than value
+     */
+    public int compare(ByteBuffer buffer, int offset, E value);
+}
@@ -0,0 +1,318 @@
+package mylistpackage;
+
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Represents a sorted node-based list with skip-list forward pointers.
+ * Each node is promoted to a random number of levels, and every forward
+ * pointer records how many nodes it skips, so insert, contains, remove,
+ * getIndex and get all take expected O(log n) time instead of a walk from
+ * the front.
+ *
+ * The bottom level is the same circular list of nodes that LinkedListSorted
+ * keeps, so iteration and toString see the values in the same order.
+ *
+ * @param <E> is of any object type
+ */
+public class SkipListSorted<E extends Comparable<? super E>> extends AbstractLinkedMyList<E>
+        implements SortedMyList<E> {
+
+    /**
+     * maximum number of levels; enough for 4^32 elements.
+     */
+    private static final int MAX_LEVEL = 32;
+
+    /**
+     * sentinel in front of the first node, with a forward pointer on every
+     * level.
+     */
+    private final SkipNode<E> head;
+
+    /**
+     * number of levels currently in use.
+     */
+    private int level;
+
+    /**
+     * decides how many levels each new node gets.
+     */
+    private final Random random;
+
+    /**
+     * Constructs an empty list.
+     */
+    public SkipListSorted() {
+        back = null;
+        size = -1;
+        head = new SkipNode<E>(null, MAX_LEVEL);
+        level = 1;
+        random = new Random();
+    }
+
+    /**
+     * @see mylistpackage.MyList#clear()
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.forward[i] = null;
+            head.span[i] = 0;
+        }
+        level = 1;
+    }
+
+    /**
+     * Inserts the value in front of the first value that is not smaller.
+     *
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void insert(E value) {
+        SkipNode<E>[] update = new SkipNode[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        SkipNode<E> current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (current.forward[i] != null && current.forward[i].data.compareTo(value) < 0) {
+                rank[i] += current.span[i];
+                current = current.forward[i];
+            }
+            update[i] = current;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size + 1;
+            }
+            level = nodeLevel;
+        }
+
+        SkipNode<E> node = new SkipNode<E>(value, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.forward[i] = update[i].forward[i];
+            update[i].forward[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        // keep the circular bottom level the base class iterates over
+        if (size == -1) {
+            back = node;
+            back.next = back;
+        } else if (update[0] == head) {
+            node.next = back.next;
+            back.next = node;
+        } else {
+            node.next = update[0].next;
+            update[0].next = node;
+            if (update[0] == back) {
+                back = node;
+            }
+        }
+        size++;
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    @Override
+    public int getIndex(E value) {
+        SkipNode<E> current = head;
+        int rank = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.forward[i] != null && current.forward[i].data.compareTo(value) < 0) {
+                rank += current.span[i];
+                current = current.forward[i];
+            }
+        }
+        current = current.forward[0];
+        while (current != null && current.data.compareTo(value) == 0) {
+            if (current.data.equals(value)) {
+                return rank;
+            }
+            rank++;
+            current = current.forward[0];
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the node at a specific index by following the forward
+     * pointers whose spans do not overshoot it.
+     *
+     * @param index where 0 <= index <= size
+     * @return reference to the node at a specific index
+     */
+    @Override
+    protected ListNode<E> nodeAt(int index) {
+        SkipNode<E> current = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.forward[i] != null && traversed + current.span[i] <= index + 1) {
+                traversed += current.span[i];
+                current = current.forward[i];
+            }
+            if (traversed == index + 1) {
+                return current;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Removes value at the given index.
+     *
+     * @param index <= size and index >= 0
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void removeAtIndex(int index) {
+        checkIndex(index);
+        SkipNode<E>[] update = new SkipNode[MAX_LEVEL];
+        SkipNode<E> current = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.forward[i] != null && traversed + current.span[i] <= index) {
+                traversed += current.span[i];
+                current = current.forward[i];
+            }
+            update[i] = current;
+        }
+
+        SkipNode<E> node = current.forward[0];
+        for (int i = 0; i < level; i++) {
+            if (update[i].forward[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].forward[i] = node.forward[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.forward[level - 1] == null) {
+            level--;
+        }
+
+        // keep the circular bottom level the base class iterates over
+        if (size == 0) {
+            back = null;
+        } else {
+            ListNode<E> previous = (update[0] == head) ? back : update[0];
+            previous.next = node.next;
+            if (node == back) {
+                back = previous;
+            }
+        }
+        size--;
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     *
+     * @param index 0 <= index <= size
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    @Override
+    public void set(int index, E value) {
+        checkIndex(index);
+        SkipNode<E> node = (SkipNode<E>) nodeAt(index);
+        if ((index > 0 && nodeAt(index - 1).data.compareTo(value) > 0)
+                || (index < size && node.forward[0].data.compareTo(value) < 0)) {
+            throw new IllegalArgumentException();
+        }
+        node.data = value;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Removes the node after previous. The forward pointers above the
+     * bottom level have to be fixed as well, so this goes through
+     * removeAtIndex and costs O(log n).
+     *
+     * @param previous the node in front of the one to remove
+     * @param index the index of the node to remove
+     */
+    @Override
+    protected void unlinkNext(ListNode<E> previous, int index) {
+        removeAtIndex(index);
+    }
+
+    /**
+     * Returns a level between 1 and MAX_LEVEL, each level a quarter as
+     * likely as the one below it.
+     *
+     * @return the number of levels for a new node
+     */
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    /*********************************************
+     * Iterator list class / methods follow
+     *********************************************/
+
+    /**
+     * Returns an iterator for this list.
+     *
+     * @return an iterator for the list.
+     */
+    public Iterator<E> iterator() {
+        return new LinkedIterator();
+    }
+
+    /**
+     * Represents a list node with a forward pointer and span per level.
+     *
+     * @param <E> is of any object type
+     */
+    private static class SkipNode<E> extends ListNode<E> {
+
+        /**
+         * Next node on each level, or null at the end of the level.
+         */
+        private final SkipNode<E>[] forward;
+
+        /**
+         * Number of bottom-level steps each forward pointer covers.
+         */
+        private final int[] span;
+
+        /**
+         * Constructs a node with the given data and number of levels.
+         *
+         * @param data assigned
+         * @param levels >= 1
+         */
+        @SuppressWarnings("unchecked")
+        SkipNode(E data, int levels) {
+            super(data);
+            forward = new SkipNode[levels];
+            span = new int[levels];
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package mylistpackage;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Set operations between sorted lists, done as a single merge of the two
+ * lists in O(n + m) instead of a contains call per element.
+ *
+ * Lists may hold duplicates, so the operations follow multiset rules: a
+ * value that occurs p times in a and q times in b occurs min(p, q) times in
+ * the intersection, max(p, q) times in the union and max(p - q, 0) times in
+ * the difference. For lists without duplicates these are the usual set
+ * operations.
+ *
+ * When both lists are ArrayListSorted, runs of values that the other list
+ * skips over are found by galloping search, so a small list against a very
+ * large one costs O(m log(n / m)) comparisons rather than O(n + m).
+ *
+ * The operations take SortedMyList, the lists that keep their values in
+ * ascending order, since the merge relies on that order.
+ */
+public final class SortedLists {
+
+    /**
+     * The operations the merge can perform.
+     */
+    private enum Operation {
+        INTERSECTION, UNION, DIFFERENCE
+    }
+
+    /**
+     * Not instantiable.
+     */
+    private SortedLists() {
+    }
+
+    /**
+     * Returns the values that are in both lists, as a new list sized
+     * exactly.
+     *
+     * @param a a sorted list
+     * @param b a sorted list
+     * @return the intersection of a and b
+     * @throws IllegalArgumentException if a or b is null
+     */
+    public static <E extends Comparable<? super E>> ArrayListSorted<E> intersection(SortedMyList<E> a,
+            SortedMyList<E> b) {
+        return collect(Operation.INTERSECTION, a, b);
+    }
+
+    /**
+     * Passes the values that are in both lists to out, in ascending order.
+     *
+     * @param a a sorted list
+     * @param b a sorted list
+     * @param out receives the intersection of a and b
+     * @throws IllegalArgumentException if a, b or out is null
+     */
+    public static <E extends Comparable<? super E>> void intersection(SortedMyList<E> a, SortedMyList<E> b,
+            Consumer<? super E> out) {
+        merge(Operation.INTERSECTION, a, b, out);
+    }
+
+    /**
+     * Returns the values that are in either list, as a new list sized
+     * exactly.
+     *
+     * @param a a sorted list
+     * @param b a sorted list
+     * @return the union of a and b
+     * @throws IllegalArgumentException if a or b is null
+     */
+    public static <E extends Comparable<? super E>> ArrayListSorted<E> union(SortedMyList<E> a,
+            SortedMyList<E> b) {
+        return collect(Operation.UNION, a, b);
+    }
+
+    /**
+     * Passes the values that are in either list to out, in ascending order.
+     *
+     * @param a a sorted list
+     * @param b a sorted list
+     * @param out receives the union of a and b
+     * @throws IllegalArgumentException if a, b or out is null
+     */
+    public static <E extends Comparable<? super E>> void union(SortedMyList<E> a, SortedMyList<E> b,
+            Consumer<? super E> out) {
+        merge(Operation.UNION, a, b, out);
+    }
+
+    /**
+     * Returns the values of a that are not in b, as a new list sized
+     * exactly.
+     *
+     * @param a a sorted list
+     * @param b a sorted list
+     * @return a minus b
+     * @throws IllegalArgumentException if a or b is null
+     */
+    public static <E extends Comparable<? super E>> ArrayListSorted<E> difference(SortedMyList<E> a,
+            SortedMyList<E> b) {
+        return collect(Operation.DIFFERENCE, a, b);
+    }
+
+    /**
+     * Passes the values of a that are not in b to out, in ascending order.
+     *
+     * @param a a sorted list
+     * @param b a sorted list
+     * @param out receives a minus b
+     * @throws IllegalArgumentException if a, b or out is null
+     */
+    public static <E extends Comparable<? super E>> void difference(SortedMyList<E> a, SortedMyList<E> b,
+            Consumer<? super E> out) {
+        merge(Operation.DIFFERENCE, a, b, out);
+    }
+
+    /**
+     * Runs the merge once into a scratch list with room for the largest
+     * possible result, then copies the values into a list of exactly that
+     * capacity, so the estimate is neither kept as the result's array nor
+     * recorded as its initial capacity.
+     *
+     * @param operation the operation to perform
+     * @param a a sorted list
+     * @param b a sorted list
+     * @return the result as a new list
+     * @throws IllegalArgumentException if a or b is null
+     */
+    private static <E extends Comparable<? super E>> ArrayListSorted<E> collect(
+            Operation operation, SortedMyList<E> a, SortedMyList<E> b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("a: " + a + ", b: " + b);
+        }
+        int limit;
+        switch (operation) {
+            case INTERSECTION:
+                limit = Math.min(a.getSize(), b.getSize());
+                break;
+            case UNION:
+                limit = (int) Math.min((long) a.getSize() + b.getSize(), Integer.MAX_VALUE - 8);
+                break;
+            default:
+                limit = a.getSize();
+                break;
+        }
+        ArrayListSorted<E> scratch = new ArrayListSorted<E>(Math.max(limit, 1));
+        merge(operation, a, b, scratch::append);
+        int count = scratch.size + 1;
+        ArrayListSorted<E> result = new ArrayListSorted<E>(Math.max(count, 1));
+        System.arraycopy(scratch.elementData, 0, result.elementData, 0, count);
+        result.size = count - 1;
+        return result;
+    }
+
+    /**
+     * Merges the two lists, passing the values the operation keeps to out.
+     *
+     * @param operation the operation to perform
+     * @param a a sorted list
+     * @param b a sorted list
+     * @param out receives the result
+     * @throws IllegalArgumentException if a, b or out is null
+     */
+    private static <E extends Comparable<? super E>> void merge(Operation operation,
+            SortedMyList<E> a, SortedMyList<E> b, Consumer<? super E> out) {
+        if (a == null || b == null || out == null) {
+            throw new IllegalArgumentException("a: " + a + ", b: " + b + ", out: " + out);
+        }
+        if (a instanceof ArrayListSorted && b instanceof ArrayListSorted) {
+            ArrayListSorted<E> first = (ArrayListSorted<E>) a;
+            ArrayListSorted<E> second = (ArrayListSorted<E>) b;
+            first.flushWriteBuffer();
+            second.flushWriteBuffer();
+            mergeArrays(operation, first.elementData, first.size + 1,
+                        second.elementData, second.size + 1, out);
+        } else {
+            mergeIterators(operation, a.iterator(), b.iterator(), out);
+        }
+    }
+
+    /**
+     * Merges two sorted arrays, galloping over the runs of one array that
+     * fall below the current value of the other.
+     *
+     * @param operation the operation to perform
+     * @param x the first array
+     * @param n the number of values in x
+     * @param y the second array
+     * @param m the number of values in y
+     * @param out receives the result
+     */
+    private static <E extends Comparable<? super E>> void mergeArrays(Operation operation,
+            E[] x, int n, E[] y, int m, Consumer<? super E> out) {
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            int comparison = x[i].compareTo(y[j]);
+            if (comparison < 0) {
+                int end = gallop(x, i, n, y[j]);
+                if (operation != Operation.INTERSECTION) {
+                    emit(x, i, end, out);
+                }
+                i = end;
+            } else if (comparison > 0) {
+                int end = gallop(y, j, m, x[i]);
+                if (operation == Operation.UNION) {
+                    emit(y, j, end, out);
+                }
+                j = end;
+            } else {
+                if (operation != Operation.DIFFERENCE) {
+                    out.accept(x[i]);
+                }
+                i++;
+                j++;
+            }
+        }
+        if (operation != Operation.INTERSECTION) {
+            emit(x, i, n, out);
+        }
+        if (operation == Operation.UNION) {
+            emit(y, j, m, out);
+        }
+    }
+
+    /**
+     * Returns the index of the first value in [from, end) that is not
+     * smaller than key, given that values[from] is smaller. Probes at
+     * doubling distances first, then binary searches the last gap, so the
+     * cost is logarithmic in the distance moved.
+     *
+     * @param values a sorted array
+     * @param from the index to start from
+     * @param end the index after the last value
+     * @param key the value to search for
+     * @return from < index <= end
+     */
+    private static <E extends Comparable<? super E>> int gallop(E[] values, int from, int end,
+            E key) {
+        int low = from;
+        int step = 1;
+        while (step < end - from && values[from + step].compareTo(key) < 0) {
+            low = from + step;
+            step <<= 1;
+        }
+        int high = step < end - from ? from + step : end;
+        low++;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Passes values[from] up to values[end - 1] to out.
+     *
+     * @param values the array
+     * @param from the first index
+     * @param end the index after the last
+     * @param out receives the values
+     */
+    private static <E> void emit(E[] values, int from, int end, Consumer<? super E> out) {
+        for (int i = from; i < end; i++) {
+            out.accept(values[i]);
+        }
+    }
+
+    /**
+     * Merges two sorted iterators one value at a time, for lists without
+     * random access.
+     *
+     * @param operation the operation to perform
+     * @param a iterates the first list
+     * @param b iterates the second list
+     * @param out receives the result
+     */
+    private static <E extends Comparable<? super E>> void mergeIterators(Operation operation,
+            Iterator<E> a, Iterator<E> b, Consumer<? super E> out) {
+        E x = a.hasNext() ? a.next() : null;
+        E y = b.hasNext() ? b.next() : null;
+        while (x != null && y != null) {
+            int comparison = x.compareTo(y);
+            if (comparison < 0) {
+                if (operation != Operation.INTERSECTION) {
+                    out.accept(x);
+                }
+                x = a.hasNext() ? a.next() : null;
+            } else if (comparison > 0) {
+                if (operation == Operation.UNION) {
+                    out.accept(y);
+                }
+                y = b.hasNext() ? b.next() : null;
+            } else {
+                if (operation != Operation.DIFFERENCE) {
+                    out.accept(x);
+                }
+                x = a.hasNext() ? a.next() : null;
+                y = b.hasNext() ? b.next() : null;
+            }
+        }
+        if (operation != Operation.INTERSECTION) {
+            for (; x != null; x = a.hasNext() ? a.next() : null) {
+                out.accept(x);
+            }
+        }
+        if (operation == Operation.UNION) {
+            for (; y != null; y = b.hasNext() ? b.next() : null) {
+                out.accept(y);
+            }
+        }
+    }
+}
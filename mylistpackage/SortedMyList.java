@@ -0,0 +1,28 @@
+package mylistpackage;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Represents a MyList that keeps its values in ascending order of
+ * compareTo, so get(0) is the smallest value and iteration visits the
+ * values in order. Operations that depend on that order, such as the merges
+ * in SortedLists, take this type rather than any MyList.
+ *
+ * @param <E> the type that is in the list
+ */
+public interface SortedMyList<E extends Comparable<? super E>> extends MyList<E> {
+
+    /**
+     * Returns a batch-splitting spliterator over iterator() that also
+     * reports SORTED, so stream stages that sort can skip the work. Lists
+     * that can split their storage directly override this.
+     *
+     * @see mylistpackage.MyList#spliterator()
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), getSize(),
+                                        Spliterator.ORDERED | Spliterator.SORTED);
+    }
+}
@@ -0,0 +1,148 @@
+package mylistpackage;
+
+/**
+ * Represents a sorted unrolled linked list. Finding a value skips whole
+ * nodes by comparing against their last element, then binary searches
+ * within the one node that can hold it.
+ *
+ * @param <E> is of any object type
+ */
+public class UnrolledListSorted<E extends Comparable<? super E>> extends AbstractUnrolledMyList<E>
+        implements SortedMyList<E> {
+
+    /**
+     * Constructs an empty list with the default node capacity.
+     */
+    public UnrolledListSorted() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list whose nodes hold the given number of elements.
+     *
+     * @param nodeCapacity >= 4
+     * @throws IllegalArgumentException if nodeCapacity < 4
+     */
+    public UnrolledListSorted(int nodeCapacity) {
+        super(nodeCapacity);
+    }
+
+    /**
+     * Inserts the value in front of the first value that is not smaller. A
+     * value larger than the last one is appended to the tail node without a
+     * walk, so filling the list in ascending order costs O(1) per insert and
+     * leaves every node but the last full.
+     *
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(E value) {
+        if (tail == null || compare(tail.items[tail.count - 1], value) < 0) {
+            append(value);
+            return;
+        }
+        UnrolledNode node = head;
+        while (node.next != null && compare(node.items[node.count - 1], value) < 0) {
+            node = node.next;
+        }
+        insertInto(node, lowerBound(node, value), value);
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    public int getIndex(E value) {
+        int base = 0;
+        UnrolledNode node = head;
+        while (node != null && compare(node.items[node.count - 1], value) < 0) {
+            base += node.count;
+            node = node.next;
+        }
+        if (node == null) {
+            return -1;
+        }
+        int i = lowerBound(node, value);
+        // equal values may run on into the following nodes
+        while (node != null) {
+            for (; i < node.count; i++) {
+                if (compare(node.items[i], value) != 0) {
+                    return -1;
+                }
+                if (node.items[i].equals(value)) {
+                    return base + i;
+                }
+            }
+            base += node.count;
+            node = node.next;
+            i = 0;
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     *
+     * @param index 0 <= index <= size
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     * @throws IllegalArgumentException if value does not belong at index
+     */
+    public void set(int index, E value) {
+        checkIndex(index);
+        if ((index > 0 && get(index - 1).compareTo(value) > 0)
+                || (index < size && get(index + 1).compareTo(value) < 0)) {
+            throw new IllegalArgumentException();
+        }
+        UnrolledNode node = head;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        node.items[index] = value;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+
+    /**
+     * Returns the offset of the first element of the node that is not
+     * smaller than value, or node.count if there is none.
+     *
+     * @param node the node to search
+     * @param value assigned
+     * @return 0 <= offset <= node.count
+     */
+    private int lowerBound(UnrolledNode node, E value) {
+        int low = 0;
+        int high = node.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(node.items[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares a stored element with a value.
+     *
+     * @param item an element of a node
+     * @param value assigned
+     * @return the result of item.compareTo(value)
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(Object item, E value) {
+        return ((E) item).compareTo(value);
+    }
+}
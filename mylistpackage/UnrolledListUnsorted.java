@@ -0,0 +1,80 @@
+package mylistpackage;
+
+/**
+ * Represents an unsorted unrolled linked list. Values are appended to the
+ * last node, so a list built by inserts alone has every node full.
+ *
+ * @param <E> is of any object type
+ */
+public class UnrolledListUnsorted<E> extends AbstractUnrolledMyList<E> {
+
+    /**
+     * Constructs an empty list with the default node capacity.
+     */
+    public UnrolledListUnsorted() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list whose nodes hold the given number of elements.
+     *
+     * @param nodeCapacity >= 4
+     * @throws IllegalArgumentException if nodeCapacity < 4
+     */
+    public UnrolledListUnsorted(int nodeCapacity) {
+        super(nodeCapacity);
+    }
+
+    /**
+     * @see mylistpackage.MyList#insert(java.lang.Object)
+     */
+    @Override
+    public void insert(E value) {
+        append(value);
+    }
+
+    /*********************************************
+     * Index list methods follow
+     *********************************************/
+
+    /**
+     * Returns the index of value.
+     *
+     * @param value assigned.
+     * @return index of value if in the list, -1 otherwise.
+     */
+    public int getIndex(E value) {
+        int base = 0;
+        for (UnrolledNode node = head; node != null; node = node.next) {
+            Object[] items = node.items;
+            for (int i = 0; i < node.count; i++) {
+                if (items[i].equals(value)) {
+                    return base + i;
+                }
+            }
+            base += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the value at the given index with the given value.
+     *
+     * @param index 0 <= index <= size
+     * @param value is assigned
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void set(int index, E value) {
+        checkIndex(index);
+        UnrolledNode node = head;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        node.items[index] = value;
+    }
+
+    /*********************************************
+     * Index list methods end
+     *********************************************/
+}
@@ -0,0 +1,276 @@
+package mylistpackage;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Runs the scans of ArrayScanner on the incubating Vector API. Each loop
+ * works through as many whole vectors of the platform's preferred width
+ * as fit in the range and leaves the remainder to the scalar loops.
+ *
+ * Only ArrayScanner refers to this class, and only by name, so the lists
+ * load without the jdk.incubator.vector module and then use the scalar
+ * loops.
+ */
+final class VectorArrayScanner extends ArrayScanner {
+
+    /**
+     * widest int vector the platform runs well
+     */
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * widest long vector the platform runs well
+     */
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * widest double vector the platform runs well
+     */
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * @see mylistpackage.ArrayScanner#isVectorized()
+     */
+    @Override
+    boolean isVectorized() {
+        return true;
+    }
+
+    /*********************************************
+     * int scans follow
+     *********************************************/
+
+    /**
+     * @see mylistpackage.ArrayScanner#indexOf(int[], int, int, int)
+     */
+    @Override
+    int indexOf(int[] values, int from, int to, int value) {
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(INTS, values, i).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        return super.indexOf(values, i, to, value);
+    }
+
+    /**
+     * @see mylistpackage.ArrayScanner#countInRange(int[], int, int, int, int)
+     */
+    @Override
+    int countInRange(int[] values, int from, int to, int lo, int hi) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, values, i);
+            count += v.compare(VectorOperators.GE, lo)
+                    .and(v.compare(VectorOperators.LT, hi))
+                    .trueCount();
+        }
+        return count + super.countInRange(values, i, to, lo, hi);
+    }
+
+    /**
+     * @see mylistpackage.ArrayScanner#min(int[], int, int)
+     */
+    @Override
+    int min(int[] values, int from, int to) {
+        int bound = from + INTS.loopBound(to - from);
+        if (bound == from) {
+            return super.min(values, from, to);
+        }
+        IntVector result = IntVector.fromArray(INTS, values, from);
+        for (int i = from + INTS.length(); i < bound; i += INTS.length()) {
+            result = result.min(IntVector.fromArray(INTS, values, i));
+        }
+        int min = result.reduceLanes(VectorOperators.MIN);
+        return bound < to ? Math.min(min, super.min(values, bound, to)) : min;
+    }
+
+    /**
+     * @see mylistpackage.ArrayScanner#max(int[], int, int)
+     */
+    @Override
+    int max(int[] values, int from, int to) {
+        int bound = from + INTS.loopBound(to - from);
+        if (bound == from) {
+            return super.max(values, from, to);
+        }
+        IntVector result = IntVector.fromArray(INTS, values, from);
+        for (int i = from + INTS.length(); i < bound; i += INTS.length()) {
+            result = result.max(IntVector.fromArray(INTS, values, i));
+        }
+        int max = result.reduceLanes(VectorOperators.MAX);
+        return bound < to ? Math.max(max, super.max(values, bound, to)) : max;
+    }
+
+    /*********************************************
+     * int scans end
+     *********************************************/
+
+    /*********************************************
+     * long scans follow
+     *********************************************/
+
+    /**
+     * @see mylistpackage.ArrayScanner#indexOf(long[], int, int, long)
+     */
+    @Override
+    int indexOf(long[] values, int from, int to, long value) {
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            VectorMask<Long> hits = LongVector.fromArray(LONGS, values, i).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        return super.indexOf(values, i, to, value);
+    }
+
+    /**
+     * @see mylistpackage.ArrayScanner#countInRange(long[], int, int, long, long)
+     */
+    @Override
+    int countInRange(long[] values, int from, int to, long lo, long hi) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, values, i);
+            count += v.compare(VectorOperators.GE, lo)
+                    .and(v.compare(VectorOperators.LT, hi))
+                    .trueCount();
+        }
+        return count + super.countInRange(values, i, to, lo, hi);
+    }
+
+    /**
+     * @see mylistpackage.ArrayScanner#min(long[], int, int)
+     */
+    @Override
+    long min(long[] values, int from, int to) {
+        int bound = from + LONGS.loopBound(to - from);
+        if (bound == from) {
+            return super.min(values, from, to);
+        }
+        LongVector result = LongVector.fromArray(LONGS, values, from);
+        for (int i = from + LONGS.length(); i < bound; i += LONGS.length()) {
+            result = result.min(LongVector.fromArray(LONGS, values, i));
+        }
+        long min = result.reduceLanes(VectorOperators.MIN);
+        return bound < to ? Math.min(min, super.min(values, bound, to)) : min;
+    }
+
+    /**
+     * @see mylistpackage.ArrayScanner#max(long[], int, int)
+     */
+    @Override
+    long max(long[] values, int from, int to) {
+        int bound = from + LONGS.loopBound(to - from);
+        if (bound == from) {
+            return super.max(values, from, to);
+        }
+        LongVector result = LongVector.fromArray(LONGS, values, from);
+        for (int i = from + LONGS.length(); i < bound; i += LONGS.length()) {
+            result = result.max(LongVector.fromArray(LONGS, values, i));
+        }
+        long max = result.reduceLanes(VectorOperators.MAX);
+        return bound < to ? Math.max(max, super.max(values, bound, to)) : max;
+    }
+
+    /*********************************************
+     * long scans end
+     *********************************************/
+
+    /*********************************************
+     * double scans follow
+     *********************************************/
+
+    /**
+     * Compares bit patterns, which matches Double.compare for every value
+     * but NaN; NaN has many bit patterns, so it is left to the scalar loop.
+     *
+     * @see mylistpackage.ArrayScanner#indexOf(double[], int, int, double)
+     */
+    @Override
+    int indexOf(double[] values, int from, int to, double value) {
+        if (Double.isNaN(value)) {
+            return super.indexOf(values, from, to, value);
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            VectorMask<Long> hits = DoubleVector.fromArray(DOUBLES, values, i)
+                    .reinterpretAsLongs().eq(bits);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        return super.indexOf(values, i, to, value);
+    }
+
+    /**
+     * @see mylistpackage.ArrayScanner#countInRange(double[], int, int, double, double)
+     */
+    @Override
+    int countInRange(double[] values, int from, int to, double lo, double hi) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, values, i);
+            count += v.compare(VectorOperators.GE, lo)
+                    .and(v.compare(VectorOperators.LT, hi))
+                    .trueCount();
+        }
+        return count + super.countInRange(values, i, to, lo, hi);
+    }
+
+    /**
+     * Lane-wise min and its reduction follow Math.min, so NaN and -0.0
+     * come out as in the scalar loop.
+     *
+     * @see mylistpackage.ArrayScanner#min(double[], int, int)
+     */
+    @Override
+    double min(double[] values, int from, int to) {
+        int bound = from + DOUBLES.loopBound(to - from);
+        if (bound == from) {
+            return super.min(values, from, to);
+        }
+        DoubleVector result = DoubleVector.fromArray(DOUBLES, values, from);
+        for (int i = from + DOUBLES.length(); i < bound; i += DOUBLES.length()) {
+            result = result.min(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double min = result.reduceLanes(VectorOperators.MIN);
+        return bound < to ? Math.min(min, super.min(values, bound, to)) : min;
+    }
+
+    /**
+     * Lane-wise max and its reduction follow Math.max, so NaN and 0.0
+     * come out as in the scalar loop.
+     *
+     * @see mylistpackage.ArrayScanner#max(double[], int, int)
+     */
+    @Override
+    double max(double[] values, int from, int to) {
+        int bound = from + DOUBLES.loopBound(to - from);
+        if (bound == from) {
+            return super.max(values, from, to);
+        }
+        DoubleVector result = DoubleVector.fromArray(DOUBLES, values, from);
+        for (int i = from + DOUBLES.length(); i < bound; i += DOUBLES.length()) {
+            result = result.max(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double max = result.reduceLanes(VectorOperators.MAX);
+        return bound < to ? Math.max(max, super.max(values, bound, to)) : max;
+    }
+
+    /*********************************************
+     * double scans end
+     *********************************************/
+}
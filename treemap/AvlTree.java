@@ -6,6 +6,9 @@
 
 package treemap;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+
 // CONSTRUCTION: with no initializer
 //
 // ******************PUBLIC OPERATIONS*********************
@@ -117,25 +120,35 @@ implements MyTreeMap<AnyKey, AnyValue>
      */
 	@Override
 	public String toString() {
-		if (root == null)
-			return "{}";
-		String tree = toString(root);
-		tree = tree.substring(0, tree.length() - 2);
-		return "{" + tree + "}";
+		return MyTreeMaps.toString(this);
 	}
-	
+
 	/**
-     * Internal method to generate the tree contents as a string.
-     * @return tree contents as a string
-     */
-    private String toString(AvlNode<AnyKey, AnyValue> node) {
-    	StringBuilder builder = new StringBuilder();
-		if (node == null)
-			return "";
-		builder.append(toString(node.left));
-		builder.append(node.toString() + ", ");
-		builder.append(toString(node.right));
-		return builder.toString();
+	 * Writes the tree contents to out in sorted order, in the same format as
+	 * toString, walking the tree as BinarySearchTree does.
+	 * @param out where the contents are written
+	 * @throws IOException if out throws one
+	 * @see treemap.BinarySearchTree#writeTo(Appendable)
+	 */
+	@Override
+	public void writeTo(Appendable out) throws IOException {
+		out.append('{');
+		ArrayDeque<AvlNode<AnyKey, AnyValue>> stack = new ArrayDeque<>();
+		AvlNode<AnyKey, AnyValue> node = root;
+		boolean first = true;
+		while (node != null || !stack.isEmpty()) {
+			while (node != null) {
+				stack.push(node);
+				node = node.left;
+			}
+			node = stack.pop();
+			if (!first)
+				out.append(", ");
+			out.append(node.toString());
+			first = false;
+			node = node.right;
+		}
+		out.append('}');
 	}
 
     private static final int ALLOWED_IMBALANCE = 1;
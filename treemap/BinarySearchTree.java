@@ -6,6 +6,9 @@
 
 package treemap;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+
 //CONSTRUCTION: with no initializer
 //
 //******************PUBLIC OPERATIONS*********************
@@ -77,11 +80,35 @@ implements MyTreeMap<AnyKey, AnyValue>
      */
 	@Override
 	public String toString() {
-		if (root == null)
-			return "{}";
-		String tree = toString(root);
-		tree = tree.substring(0, tree.length() - 2);
-		return "{" + tree + "}";
+		return MyTreeMaps.toString(this);
+	}
+
+	/**
+	 * Writes the tree contents to out in sorted order, in the same format as
+	 * toString. Walks the tree with an explicit stack, so a degenerate tree
+	 * cannot overflow the call stack.
+	 * @param out where the contents are written
+	 * @throws IOException if out throws one
+	 */
+	@Override
+	public void writeTo(Appendable out) throws IOException {
+		out.append('{');
+		ArrayDeque<BinaryNode<AnyKey, AnyValue>> stack = new ArrayDeque<>();
+		BinaryNode<AnyKey, AnyValue> node = root;
+		boolean first = true;
+		while (node != null || !stack.isEmpty()) {
+			while (node != null) {
+				stack.push(node);
+				node = node.left;
+			}
+			node = stack.pop();
+			if (!first)
+				out.append(", ");
+			out.append(node.toString());
+			first = false;
+			node = node.right;
+		}
+		out.append('}');
 	}
 	
     /**
@@ -122,7 +149,9 @@ implements MyTreeMap<AnyKey, AnyValue>
             node.right = remove( key, node.right );
         else if( node.left != null && node.right != null ) // Two children
         {
-            node.value = getMin( node.right ).value;
+            BinaryNode<AnyKey, AnyValue> min = getMin( node.right );
+            node.key = min.key;
+            node.value = min.value;
             node.right = removeMin( node.right );
         }
         else
@@ -183,18 +212,4 @@ implements MyTreeMap<AnyKey, AnyValue>
 
         return null;         // Not found
     }
-    
-    /**
-     * Internal method to generate the tree contents as a string.
-     * @return tree contents as a string
-     */
-    private String toString(BinaryNode<AnyKey, AnyValue> node) {
-    	StringBuilder builder = new StringBuilder();
-		if (node == null)
-			return "";
-		builder.append(toString(node.left));
-		builder.append(node.toString() + ", ");
-		builder.append(toString(node.right));
-		return builder.toString();
-	}
 }
@@ -1,5 +1,7 @@
 package treemap;
 
+import java.io.IOException;
+
 
 public interface MyTreeMap<AnyKey, AnyValue> {
     
@@ -28,4 +30,12 @@ public interface MyTreeMap<AnyKey, AnyValue> {
      * @return tree contents as a string
      */
     public String toString();
+
+    /**
+     * Writes tree contents to out in the same format as toString, without
+     * building the whole string in memory.
+     * @param out where the contents are written
+     * @throws IOException if out throws one
+     */
+    public void writeTo(Appendable out) throws IOException;
 }
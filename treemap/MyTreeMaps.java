@@ -0,0 +1,31 @@
+package treemap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Helpers shared by the trees of this package.
+ */
+final class MyTreeMaps {
+
+    private MyTreeMaps() {
+    }
+
+    /**
+     * Returns tree contents as a string by writing them to a StringBuilder,
+     * so toString and writeTo cannot disagree.
+     *
+     * @param tree the tree to write
+     * @return what writeTo writes
+     */
+    static String toString(MyTreeMap<?, ?> tree) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            tree.writeTo(builder);
+        } catch (IOException e) {
+            // a StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+}
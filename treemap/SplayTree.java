@@ -6,6 +6,9 @@
 
 package treemap;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+
 // CONSTRUCTION: with no initializer
 //
 // ******************PUBLIC OPERATIONS*********************
@@ -223,27 +226,35 @@ implements MyTreeMap<AnyKey, AnyValue>
      * Returns tree contents as a string.
      * @return tree contents as a string
      */
-    public String toString() {
-		if (root == null)
-			return "{}";
-		String tree = toString(root);
-		tree = tree.substring(0, tree.length() - 2);
-		return "{" + tree + "}";
-    }
-    
-    /**
-     * Internal method to generate the tree contents as a string.
-     * @return tree contents as a string
-     */
-    private String toString(BinaryNode<AnyKey, AnyValue> node) {
-    	StringBuilder builder = new StringBuilder();
-		
-		if( node != node.left )
-        {
-            builder.append(toString( node.left ));
-        	builder.append( node.toString() + ", ");
-            builder.append(toString( node.right ));
-        }
-		return builder.toString();
-    }
+	public String toString() {
+		return MyTreeMaps.toString(this);
+	}
+
+	/**
+	 * Writes the tree contents to out in sorted order, in the same format as
+	 * toString, walking the tree as BinarySearchTree does.
+	 * @param out where the contents are written
+	 * @throws IOException if out throws one
+	 * @see treemap.BinarySearchTree#writeTo(Appendable)
+	 */
+	@Override
+	public void writeTo(Appendable out) throws IOException {
+		out.append('{');
+		ArrayDeque<BinaryNode<AnyKey, AnyValue>> stack = new ArrayDeque<>();
+		BinaryNode<AnyKey, AnyValue> node = root;
+		boolean first = true;
+		while (node != nullNode || !stack.isEmpty()) {
+			while (node != nullNode) {
+				stack.push(node);
+				node = node.left;
+			}
+			node = stack.pop();
+			if (!first)
+				out.append(", ");
+			out.append(node.toString());
+			first = false;
+			node = node.right;
+		}
+		out.append('}');
+	}
 }